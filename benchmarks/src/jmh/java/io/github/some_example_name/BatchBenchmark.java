@@ -0,0 +1,79 @@
+package io.github.some_example_name;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/** BatchSimulator로 월드 WORLDS개를 TICKS틱씩. threads별 시간을 비교해 코어 수에 따른 확장성을 본다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchBenchmark {
+    private static final float DT = 1f / Constants.SIM_HZ;
+    private static final int WORLDS = 64;
+    private static final long TICKS = 600;
+
+    // 0 = 사용 가능한 코어 전부
+    @Param({"1", "2", "4", "0"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private BatchSimulator batch;
+
+    // StepBenchmark와 같은 달리기/점프 스크립트, 월드마다 위상만 다르게
+    private static final class Script implements InputSource {
+        private final int phase;
+        private int tick;
+
+        Script(int phase) {
+            this.phase = phase;
+        }
+
+        @Override
+        public void begin(GameWorld world) {
+            world.loadLevel(1 + phase % 3);
+            world.state.point = 0;
+            tick = phase;
+        }
+
+        @Override
+        public boolean next(GameWorld world, PlayerInput out) {
+            int t = tick++;
+            out.right = (t / 90) % 4 != 3;
+            out.left  = !out.right;
+            out.jump  = t % 40 == 0;
+            out.dash  = false;
+            return true;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        batch = new BatchSimulator(WORLDS, pool);
+        for (int i = 0; i < WORLDS; i++) batch.setInput(i, new Script(i * 17));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long runBatch() {
+        BatchSimulator.Outcome[] out = batch.run(DT, TICKS);
+        long ticks = 0;
+        for (BatchSimulator.Outcome o : out) ticks += o.ticks;
+        return ticks;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.some_example_name;
+
+/** 벤치마크 @Param 이름 -> 맵. "1".."3"은 내장 레벨, "wideNx"는 97칸 x N 폭의 합성 맵. */
+final class BenchLevels {
+    private BenchLevels() {}
+
+    static final int BUILTIN_WIDTH = 97;
+    static final int BUILTIN_HEIGHT = 10;
+
+    static void load(GameWorld world, String name) {
+        if (name.startsWith("wide")) {
+            world.loadLevel(wide(Integer.parseInt(name.substring(4, name.length() - 1))));
+        } else {
+            world.loadLevel(Integer.parseInt(name));
+        }
+    }
+
+    static String[] wide(int factor) {
+        return LevelGenerator.generate(BUILTIN_WIDTH * factor, BUILTIN_HEIGHT, 24, 42L);
+    }
+}
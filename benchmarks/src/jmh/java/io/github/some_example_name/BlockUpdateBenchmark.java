@@ -0,0 +1,58 @@
+package io.github.some_example_name;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** 이동 블록(POISON_MOVING) 다수의 갱신(객체 배열 vs BlockStore), 그리고 그런 맵에서의 step 한 틱. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlockUpdateBenchmark {
+    private static final float DT = 1f / Constants.SIM_HZ;
+
+    @Param({"100", "1000", "10000"})
+    public int count;
+
+    private Block[] moving;
+    private final BlockStore store = new BlockStore();
+    private GameWorld world;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        moving = new Block[count];
+        for (int i = 0; i < count; i++) moving[i] = new Block(i * 3, 1 + (i % 8), Block.Type.POISON_MOVING);
+        store.clear();
+        for (int i = 0; i < count; i++) store.add(i * 3, 1 + (i % 8), Block.Type.POISON_MOVING);
+
+        // 한 칸에 하나씩 이동 블록이 있는 count 폭의 맵
+        world = new GameWorld();
+        world.loadLevel(LevelGenerator.generate(Math.max(40, count), BenchLevels.BUILTIN_HEIGHT, 1, 7L));
+    }
+
+    @Benchmark
+    public float updateAll() {
+        for (Block b : moving) b.update(DT);
+        return moving[0].px;
+    }
+
+    @Benchmark
+    public float updateStore() {
+        store.updateMoving(DT);
+        return store.movingX(0);
+    }
+
+    @Benchmark
+    public float stepWithMovingBlocks() {
+        world.step(DT);
+        return world.playerY();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** 이동 블록 브로드페이즈: sweep-and-prune 질의 vs 전체 훑기, 정렬 유지 비용, 겹침 쌍. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadphaseBenchmark {
+    private static final float DT = 1f / Constants.SIM_HZ;
+    private static final int QUERIES = 64;
+
+    @Param({"1000", "5000", "10000"})
+    public int count;
+
+    private final BlockStore store = new BlockStore();
+    private final BlockList out = new BlockList();
+    private final IntArray pairs = new IntArray();
+    private float[] qx;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        store.clear();
+        // 두 칸 간격이라 이웃끼리 왕복 범위가 겹친다
+        for (int i = 0; i < count; i++) store.add(i * 2, 1 + (i % 8), Block.Type.POISON_MOVING);
+        qx = new float[QUERIES];
+        for (int i = 0; i < QUERIES; i++) qx[i] = (i * 7919 % (count * 2)) * Constants.TILE;
+    }
+
+    // 틱마다: 이동 + 정렬 복구(BlockStore.updateMoving이 sap.update까지 한다)
+    @Benchmark
+    public float updateAndSort() {
+        store.updateMoving(DT);
+        return store.movingX(0);
+    }
+
+    // 플레이어 크기 영역 질의(GameWorld 충돌/트리거 검사와 같은 모양)
+    @Benchmark
+    public int querySweepAndPrune() {
+        int hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            out.clear();
+            store.queryMoving(qx[i], 2 * Constants.TILE, Constants.TILE, Constants.TILE, out);
+            hits += out.size;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int queryLinear() {
+        int hits = 0;
+        float w = Constants.TILE, h = Constants.TILE, y = 2 * Constants.TILE;
+        for (int i = 0; i < QUERIES; i++) {
+            out.clear();
+            float x = qx[i];
+            for (int k = 0; k < store.movingCount; k++) {
+                float bx = store.movingX(k), by = store.movingY(k);
+                if (bx > x + w || bx + Constants.TILE < x) continue;
+                if (by > y + h || by + Constants.TILE < y) continue;
+                out.add(store, store.movingBlock(k));
+            }
+            hits += out.size;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int overlapPairs() {
+        pairs.clear();
+        return store.movingPairs(pairs);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** 충돌 해결 함수 각각. 플레이어를 스폰 지점 바닥에 세워 두고 같은 이동을 반복 해결한다. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+    @Param({"1", "2", "3", "wide100x"})
+    public String level;
+
+    private GameWorld world;
+    private final Rectangle r = new Rectangle();
+    private float restX, restY;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = new GameWorld();
+        BenchLevels.load(world, level);
+        for (int i = 0; i < 120; i++) world.step(1f / Constants.SIM_HZ);
+        restX = world.player.pos.x;
+        restY = world.player.pos.y;
+    }
+
+    @Benchmark
+    public float resolveX() {
+        world.player.pos.set(restX, restY);
+        world.player.vel.set(Constants.MOVE_SPEED, 0f);
+        r.set(restX + 3.4f, restY, world.player.w, world.player.h);
+        return world.resolveX(r);
+    }
+
+    @Benchmark
+    public float resolveY() {
+        world.player.pos.set(restX, restY);
+        world.player.vel.set(0f, -20f);
+        r.set(restX, restY - 0.4f, world.player.w, world.player.h);
+        world.resolveY(r, false);
+        return r.y;
+    }
+
+    @Benchmark
+    public boolean isStandingOnBlock() {
+        r.set(restX, restY, world.player.w, world.player.h);
+        return world.isStandingOnBlock(r);
+    }
+}
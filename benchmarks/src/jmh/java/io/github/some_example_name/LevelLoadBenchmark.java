@@ -0,0 +1,54 @@
+package io.github.some_example_name;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** GameWorld.loadLevel / restartLevel / 사본 저장·복원. 재시작은 죽을 때마다 불리므로 자주 도는 경로. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelLoadBenchmark {
+    @Param({"1", "2", "3", "wide10x"})
+    public String level;
+
+    private GameWorld world;
+    private String[] wideRows;
+    private final GameWorld.Snapshot checkpoint = new GameWorld.Snapshot();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = new GameWorld();
+        if (level.startsWith("wide")) wideRows = BenchLevels.wide(Integer.parseInt(level.substring(4, level.length() - 1)));
+        BenchLevels.load(world, level);
+    }
+
+    @Benchmark
+    public int loadLevel() {
+        if (wideRows != null) world.loadLevel(wideRows);
+        else world.loadLevel(Integer.parseInt(level));
+        return world.blocks.size;
+    }
+
+    @Benchmark
+    public int restartLevel() {
+        world.restartLevel(true);
+        return world.blocks.size;
+    }
+
+    // 체크포인트: 지금 상태 저장 + 복원(할당 없음)
+    @Benchmark
+    public int saveAndRestore() {
+        world.save(checkpoint);
+        world.restore(checkpoint);
+        return world.blocks.size;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.some_example_name;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** GameWorld.step 한 틱. 스크립트 입력으로 달리고 점프하며, 죽거나 클리어하면 재시작한다. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StepBenchmark {
+    private static final float DT = 1f / Constants.SIM_HZ;
+
+    @Param({"1", "2", "3", "wide10x", "wide100x"})
+    public String level;
+
+    private GameWorld world;
+    private final PlayerInput input = new PlayerInput();
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = new GameWorld();
+        BenchLevels.load(world, level);
+        tick = 0;
+    }
+
+    @Benchmark
+    public float step() {
+        int t = tick++;
+        input.right = (t / 90) % 4 != 3;
+        input.left  = !input.right;
+        input.jump  = t % 40 == 0;
+        input.dash  = false;
+        world.step(DT, input);
+        if (world.isDead() || world.isCleared()) world.restartLevel(true);
+        return world.playerX();
+    }
+
+    // 입력 없이 바닥에 서 있는 상태: 재시작 비용이 섞이지 않은 순수 틱 비용
+    @Benchmark
+    public float stepIdle() {
+        world.step(DT);
+        return world.playerY();
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.some_example_name;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/** 청크 스트리밍 맵에서 플레이어를 계속 오른쪽으로 옮기며 step. 청크 로드/해제 비용이 틱에 섞인다. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreamingBenchmark {
+    private static final float DT = 1f / Constants.SIM_HZ;
+    private static final float SCROLL = 16f;   // 틱당 이동(px), 대시 속도 근처
+
+    @Param({"10000", "100000"})
+    public int width;
+
+    private GameWorld world;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = new GameWorld();
+        world.loadLevel(LevelGenerator.streaming(width, BenchLevels.BUILTIN_HEIGHT, 24, 42L));
+    }
+
+    @Benchmark
+    public int scrollStep() {
+        GameCharacter p = world.player;
+        p.pos.x += SCROLL;
+        p.pos.y = 5 * Constants.TILE;
+        p.vel.set(0f, 0f);
+        if (p.pos.x > (width - 8) * Constants.TILE) world.restartLevel(true);
+        world.step(DT);
+        return world.blocks.size;
+    }
+
+    @Benchmark
+    public int openStreamed() {
+        world.restartLevel(true);
+        return world.blocks.size;
+    }
+}
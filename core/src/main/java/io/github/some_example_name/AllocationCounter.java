@@ -0,0 +1,21 @@
+package io.github.some_example_name;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/** 현재 스레드의 누적 할당 바이트(HotSpot ThreadMXBean). 지원하지 않는 JVM이면 -1. */
+public final class AllocationCounter {
+    private AllocationCounter() {}
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    public static boolean isSupported() {
+        return THREADS instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported();
+    }
+
+    public static long threadAllocatedBytes() {
+        if (!isSupported()) return -1L;
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -1,42 +1,119 @@
 package io.github.some_example_name;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
+/**
+ * 타일 이미지. 빌드 때 packTextures가 만든 atlas/tiles.atlas 한 장에서 영역을 꺼내 쓰므로
+ * 블록 종류가 섞여 있어도 SpriteBatch가 텍스처 전환으로 flush하지 않는다.
+ * 아틀라스가 없으면(IDE에서 Gradle 없이 실행 등) tiles/*.png를 각각 읽는다.
+ *
+ * 로딩은 AssetManager로 비동기: queue()로 요청하고, 다 끝나면 finish()로 영역을 꺼낸다.
+ */
 public class Assets {
-    public static Texture TEX_SOLID;
-    public static Texture TEX_BREAKABLE;
-    public static Texture TEX_GOAL;
-    public static Texture TEX_POISON;
-    public static Texture TEX_POISON_MOVING;
-    public static Texture TEX_SLIPPERY;
-
-    public static void load() {
-        TEX_SOLID         = new Texture(Gdx.files.internal("solid.png"));
-        TEX_BREAKABLE     = new Texture(Gdx.files.internal("breakable.png"));
-        TEX_GOAL          = new Texture(Gdx.files.internal("goal.png"));
-        TEX_POISON        = new Texture(Gdx.files.internal("poison.png"));
-        TEX_POISON_MOVING = new Texture(Gdx.files.internal("poison_moving.png"));
-
-        if (Gdx.files.internal("slippery.png").exists()) {
-            TEX_SLIPPERY = new Texture(Gdx.files.internal("slippery.png"));
-        } else {
-            TEX_SLIPPERY = null;
+    public static final String ATLAS = "atlas/tiles.atlas";
+    public static final String TILES_DIR = "tiles/";
+
+    // 요청 순서 = 로딩 순서. 1스테이지에 나오는 타일이 먼저
+    private static final String[] TILE_NAMES = { "solid", "breakable", "poison", "goal", "poison_moving", "slippery", "white" };
+
+    public static TextureRegion REGION_SOLID;
+    public static TextureRegion REGION_BREAKABLE;
+    public static TextureRegion REGION_GOAL;
+    public static TextureRegion REGION_POISON;
+    public static TextureRegion REGION_POISON_MOVING;
+    public static TextureRegion REGION_SLIPPERY;
+
+    // 도형(플레이어, 패널 등)을 SpriteBatch로 칠하는 1x1 흰색. 아틀라스에 있으면 타일과 같은 텍스처라 flush가 없다
+    public static TextureRegion REGION_WHITE;
+
+    // 아틀라스 밖 1x1 흰 텍스처(로딩 화면, white.png가 없을 때)
+    private static Texture whiteTexture;
+    private static TextureRegion whitePixel;
+
+    private static boolean packed;
+
+    // queue()부터 finish()까지 JFR 이벤트(기록 중이 아니면 null)
+    private static Object loadEvent;
+    private static int queued;
+
+    /** 로딩 요청. 반환값은 요청한 파일 경로(로딩 순서대로, 시간 측정용). */
+    public static String[] queue(AssetManager manager) {
+        loadEvent = GameEvents.beginAssets();
+        packed = Gdx.files.internal(ATLAS).exists();
+        if (packed) {
+            manager.load(ATLAS, TextureAtlas.class);
+            queued = 1;
+            return new String[] { ATLAS };
         }
 
-        Texture[] arr = {TEX_SOLID, TEX_BREAKABLE, TEX_GOAL, TEX_POISON, TEX_POISON_MOVING, TEX_SLIPPERY};
-        for (Texture t : arr) {
-            if (t != null) t.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
+        TextureLoader.TextureParameter nearest = new TextureLoader.TextureParameter();
+        nearest.minFilter = TextureFilter.Nearest;
+        nearest.magFilter = TextureFilter.Nearest;
+
+        String[] paths = new String[TILE_NAMES.length];
+        int n = 0;
+        for (String name : TILE_NAMES) {
+            String path = TILES_DIR + name + ".png";
+            if (!Gdx.files.internal(path).exists()) continue;   // slippery.png는 없어도 됨
+            manager.load(path, Texture.class, nearest);
+            paths[n++] = path;
         }
+        queued = n;
+        return java.util.Arrays.copyOf(paths, n);
+    }
+
+    /** queue()한 것이 모두 로드된 뒤 호출. */
+    public static void finish(AssetManager manager) {
+        REGION_SOLID         = region(manager, "solid");
+        REGION_BREAKABLE     = region(manager, "breakable");
+        REGION_GOAL          = region(manager, "goal");
+        REGION_POISON        = region(manager, "poison");
+        REGION_POISON_MOVING = region(manager, "poison_moving");
+        REGION_SLIPPERY      = region(manager, "slippery");   // 없으면 null(도형으로 대신 그림)
+        REGION_WHITE         = region(manager, "white");
+        if (REGION_WHITE == null) REGION_WHITE = whitePixel();
+        GameEvents.endAssets(loadEvent, queued, packed);
+        loadEvent = null;
+    }
+
+    /** 에셋과 상관없이 만든 1x1 흰 영역. 로딩이 끝나기 전에도 쓸 수 있다. GL 스레드에서 호출. */
+    public static TextureRegion whitePixel() {
+        if (whitePixel == null) {
+            Pixmap px = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            px.setColor(1f, 1f, 1f, 1f);
+            px.fill();
+            whiteTexture = new Texture(px);
+            px.dispose();
+            whitePixel = new TextureRegion(whiteTexture);
+        }
+        return whitePixel;
+    }
+
+    /** 아틀라스로 묶였으면 true(월드 전체가 텍스처 하나). */
+    public static boolean isPacked() {
+        return packed;
+    }
+
+    private static TextureRegion region(AssetManager manager, String name) {
+        if (packed) return manager.get(ATLAS, TextureAtlas.class).findRegion(name);
+        String path = TILES_DIR + name + ".png";
+        if (!manager.isLoaded(path)) return null;
+        return new TextureRegion(manager.get(path, Texture.class));
     }
 
+    // 텍스처는 AssetManager가 해제한다(직접 만든 흰 텍스처만 여기서)
     public static void dispose() {
-        if (TEX_SOLID != null) TEX_SOLID.dispose();
-        if (TEX_BREAKABLE != null) TEX_BREAKABLE.dispose();
-        if (TEX_GOAL != null) TEX_GOAL.dispose();
-        if (TEX_POISON != null) TEX_POISON.dispose();
-        if (TEX_POISON_MOVING != null) TEX_POISON_MOVING.dispose();
-        if (TEX_SLIPPERY != null) TEX_SLIPPERY.dispose();
+        REGION_SOLID = REGION_BREAKABLE = REGION_GOAL = null;
+        REGION_POISON = REGION_POISON_MOVING = REGION_SLIPPERY = REGION_WHITE = null;
+        if (whiteTexture != null) whiteTexture.dispose();
+        whiteTexture = null;
+        whitePixel = null;
     }
 }
@@ -0,0 +1,127 @@
+package io.github.some_example_name;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 서로 독립인 GameWorld N개를 포크-조인 풀에서 병렬로 끝까지 돌린다(AI 튜닝, 레벨 밸런스용).
+ *
+ * 월드마다 자기 InputSource를 갖고, 클리어/죽음/입력 끝/maxTicks 중 먼저 오는 것에서 멈춘다.
+ * 월드끼리 공유하는 상태가 없어서 작업 하나가 월드 하나이고, 길이가 제각각이라 작업 훔치기로 코어를 채운다.
+ */
+public class BatchSimulator {
+    /** 월드 하나의 결과. */
+    public static final class Outcome {
+        public boolean cleared;
+        public boolean died;
+        public long ticks;
+        public int points;      // 멈춘 시점 포인트(클리어했으면 클리어 직전 값)
+        public int level;       // 멈춘 시점 레벨
+
+        void reset() {
+            cleared = false;
+            died = false;
+            ticks = 0;
+            points = 0;
+            level = 0;
+        }
+
+        @Override
+        public String toString() {
+            return (cleared ? "cleared" : died ? "died" : "stopped")
+                + " level=" + level + " ticks=" + ticks + " points=" + points;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final GameWorld[] worlds;
+    private final InputSource[] inputs;
+    private final PlayerInput[] scratch;
+    private final Outcome[] outcomes;
+
+    public BatchSimulator(int count) {
+        this(count, ForkJoinPool.commonPool());
+    }
+
+    public BatchSimulator(int count, ForkJoinPool pool) {
+        this.pool = pool;
+        worlds = new GameWorld[count];
+        inputs = new InputSource[count];
+        scratch = new PlayerInput[count];
+        outcomes = new Outcome[count];
+        for (int i = 0; i < count; i++) {
+            worlds[i] = new GameWorld();
+            scratch[i] = new PlayerInput();
+            outcomes[i] = new Outcome();
+        }
+    }
+
+    public int size()                { return worlds.length; }
+    public GameWorld world(int i)    { return worlds[i]; }
+    public Outcome outcome(int i)    { return outcomes[i]; }
+
+    public void setInput(int i, InputSource input) {
+        inputs[i] = input;
+    }
+
+    /**
+     * 모든 월드를 dt 틱으로 돌린다. 입력원이 없는 월드는 건너뛴다.
+     * 결과 배열은 재사용되므로 다음 run 전에 필요한 값을 꺼내 둘 것.
+     */
+    public Outcome[] run(float dt, long maxTicks) {
+        pool.invoke(new Slice(0, worlds.length, dt, maxTicks));
+        return outcomes;
+    }
+
+    // 월드 하나를 끝까지. 호출한 작업 스레드만 이 월드를 만진다
+    void runOne(int i, float dt, long maxTicks) {
+        Outcome o = outcomes[i];
+        o.reset();
+        InputSource input = inputs[i];
+        if (input == null) return;
+
+        GameWorld world = worlds[i];
+        PlayerInput in = scratch[i];
+        input.begin(world);
+        int points = world.state.point;
+        while (o.ticks < maxTicks && input.next(world, in)) {
+            world.step(dt, in);
+            o.ticks++;
+            if (world.isCleared()) {
+                o.cleared = true;
+                break;
+            }
+            points = world.state.point;
+            if (world.isDead()) {
+                o.died = true;
+                break;
+            }
+        }
+        o.points = points;
+        o.level = world.level();
+    }
+
+    // 반씩 나눠 한 월드가 될 때까지 쪼갠다
+    private final class Slice extends RecursiveAction {
+        private final int from, to;
+        private final float dt;
+        private final long maxTicks;
+
+        Slice(int from, int to, float dt, long maxTicks) {
+            this.from = from;
+            this.to = to;
+            this.dt = dt;
+            this.maxTicks = maxTicks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) runOne(from, dt, maxTicks);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Slice(from, mid, dt, maxTicks), new Slice(mid, to, dt, maxTicks));
+        }
+    }
+}
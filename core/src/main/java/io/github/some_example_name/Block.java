@@ -1,11 +1,11 @@
 package io.github.some_example_name;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Rectangle;
 
+/**
+ * 블록 하나. GameWorld는 블록을 BlockStore(배열)에 두고, 질의 결과로만 이 객체에 복사해서 넘겨준다(index = 저장소 인덱스).
+ * 단독으로 만들어 쓸 수도 있다(index = -1).
+ */
 public class Block {
     public enum Type {
         SOLID,            // #
@@ -16,15 +16,20 @@ public class Block {
         POISON_MOVING     // r (이동형 독)
     }
 
-    public final int gx, gy;
-    public final Type type;
+    public int gx, gy;
+    public Type type;
+    public int index = -1;
 
     // 이동 블록
     public boolean moving = false;
     public float px, py;
+    public float prevPx;        // 직전 틱 x(렌더 보간용)
     public float vx = 0f;
     public float minX, maxX;
 
+    // BlockStore.view로 채울 빈 뷰
+    Block() {}
+
     public Block(int gx, int gy, Type type) {
         this.gx = gx;
         this.gy = gy;
@@ -32,6 +37,7 @@ public class Block {
 
         this.px = gx * Constants.TILE;
         this.py = gy * Constants.TILE;
+        this.prevPx = px;
 
         if (type == Type.POISON_MOVING) {
             moving = true;
@@ -43,41 +49,27 @@ public class Block {
     }
 
     public Rectangle getBounds() {
-        if (moving) return new Rectangle(px, py, Constants.TILE, Constants.TILE);
-        return new Rectangle(gx * Constants.TILE, gy * Constants.TILE, Constants.TILE, Constants.TILE);
+        return getBounds(new Rectangle());
+    }
+
+    // 할당 없는 버전: out에 채워서 반환
+    public Rectangle getBounds(Rectangle out) {
+        return out.set(px, py, Constants.TILE, Constants.TILE);
     }
 
+    // Rectangle.overlaps와 같은 판정(경계 접촉은 겹침 아님)
+    public boolean overlaps(Rectangle r) {
+        return r.x < px + Constants.TILE && r.x + r.width > px
+            && r.y < py + Constants.TILE && r.y + r.height > py;
+    }
+
+    public float renderX(float alpha) { return prevPx + (px - prevPx) * alpha; }
+
     public void update(float dt) {
         if (!moving) return;
+        prevPx = px;
         px += vx * dt;
         if (px < minX) { px = minX; vx = Math.abs(vx); }
         if (px + Constants.TILE > maxX) { px = maxX - Constants.TILE; vx = -Math.abs(vx); }
     }
-
-    // 텍스처 드로우(있으면 사용)
-    public void draw(SpriteBatch batch) {
-        Rectangle r = getBounds();
-        Texture tex = null;
-        switch (type) {
-            case SOLID:           tex = Assets.TEX_SOLID; break;
-            case BREAKABLE:       tex = Assets.TEX_BREAKABLE; break;
-            case GOAL:            tex = Assets.TEX_GOAL; break;
-            case POISON:          tex = Assets.TEX_POISON; break;
-            case POISON_MOVING:   tex = Assets.TEX_POISON_MOVING; break;
-            case SLIPPERY:        tex = Assets.TEX_SLIPPERY; break;
-        }
-        if (tex != null) {
-            batch.draw(tex, r.x, r.y, r.width, r.height);
-        } else {
-            if (type == Type.SLIPPERY) {
-            }
-        }
-    }
-
-    public void drawShape(ShapeRenderer sr) {
-        if (type != Type.SLIPPERY || Assets.TEX_SLIPPERY != null) return;
-        Rectangle r = getBounds();
-        sr.setColor(new Color(0.94f, 0.94f, 0.94f, 1f));
-        sr.rect(r.x, r.y, r.width, r.height);
-    }
 }
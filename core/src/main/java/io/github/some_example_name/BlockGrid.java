@@ -0,0 +1,107 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * 타일 좌표(gx, gy) -> BlockStore 인덱스 격자. 이동 블록은 격자에 넣지 않는다(BlockStore의 이동 슬롯).
+ *
+ * 열은 gx % cols 슬롯에 들어간다. 보통은 cols == width라 맵 전체를 덮고,
+ * 청크 스트리밍(resetRing)에서는 cols가 로드된 범위만큼이라 슬롯을 돌려 쓴다.
+ * 슬롯마다 지금 들어 있는 gx를 기억해서 다른 열과 섞이지 않게 한다.
+ */
+public class BlockGrid {
+    public static final int EMPTY = -1;
+
+    private int width, height;
+    private int cols;
+    private int[] cells = new int[0];                       // gy * cols + slot, 값은 blocks 인덱스
+    private int[] columnOwner = new int[0];                 // 슬롯에 들어 있는 gx, 없으면 EMPTY
+
+    /** 맵 전체를 덮는 격자. */
+    public void reset(int width, int height) {
+        resetRing(width, height, width);
+        for (int i = 0; i < cols; i++) columnOwner[i] = i;
+    }
+
+    /** cols 열만 담는 링 격자. 열은 claimColumn으로 채우고 releaseColumn으로 비운다. */
+    public void resetRing(int width, int height, int cols) {
+        this.width = width;
+        this.height = height;
+        this.cols = Math.max(1, Math.min(cols, Math.max(1, width)));
+        int n = this.cols * height;
+        if (cells.length < n) cells = new int[n];
+        Arrays.fill(cells, 0, n, EMPTY);
+        if (columnOwner.length < this.cols) columnOwner = new int[this.cols];
+        Arrays.fill(columnOwner, 0, this.cols, EMPTY);
+    }
+
+    /** o와 같은 내용으로 만든다. */
+    public void set(BlockGrid o) {
+        width = o.width;
+        height = o.height;
+        cols = o.cols;
+        int n = cols * height;
+        if (cells.length < n) cells = new int[n];
+        System.arraycopy(o.cells, 0, cells, 0, n);
+        if (columnOwner.length < cols) columnOwner = new int[cols];
+        System.arraycopy(o.columnOwner, 0, columnOwner, 0, cols);
+    }
+
+    public int width()  { return width; }
+    public int height() { return height; }
+    public int columns() { return cols; }
+
+    public boolean hasColumn(int gx) {
+        return gx >= 0 && gx < width && columnOwner[gx % cols] == gx;
+    }
+
+    public void claimColumn(int gx) {
+        if (gx < 0 || gx >= width) return;
+        int slot = gx % cols;
+        columnOwner[slot] = gx;
+        for (int gy = 0; gy < height; gy++) cells[gy * cols + slot] = EMPTY;
+    }
+
+    public void releaseColumn(int gx) {
+        if (!hasColumn(gx)) return;
+        int slot = gx % cols;
+        columnOwner[slot] = EMPTY;
+        for (int gy = 0; gy < height; gy++) cells[gy * cols + slot] = EMPTY;
+    }
+
+    public int get(int gx, int gy) {
+        if (gy < 0 || gy >= height || !hasColumn(gx)) return EMPTY;
+        return cells[gy * cols + gx % cols];
+    }
+
+    public void set(int gx, int gy, int index) {
+        if (gy < 0 || gy >= height || !hasColumn(gx)) return;
+        cells[gy * cols + gx % cols] = index;
+    }
+
+    public static int cellOf(float v) {
+        return (int) Math.floor(v / Constants.TILE);
+    }
+
+    /** (x, y, w, h) 영역이 걸치는 칸의 정적 블록 + 근처 이동 블록을 out에 담는다. */
+    public void query(float x, float y, float w, float h, BlockStore blocks, BlockList out) {
+        out.clear();
+
+        int x0 = Math.max(0, cellOf(x));
+        int x1 = Math.min(width - 1, cellOf(x + w));
+        int y0 = Math.max(0, cellOf(y));
+        int y1 = Math.min(height - 1, cellOf(y + h));
+
+        for (int gy = y0; gy <= y1; gy++) {
+            int row = gy * cols;
+            for (int gx = x1; gx >= x0; gx--) {
+                int slot = gx % cols;
+                if (columnOwner[slot] != gx) continue;
+                int idx = cells[row + slot];
+                if (idx != EMPTY) out.add(blocks, idx);
+            }
+        }
+
+        blocks.queryMoving(x, y, w, h, out);
+    }
+}
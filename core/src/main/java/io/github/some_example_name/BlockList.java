@@ -0,0 +1,23 @@
+package io.github.some_example_name;
+
+/** 격자 질의 결과. Block 뷰 객체를 재사용하므로 내용은 다음 clear/질의 전까지만 유효하다. */
+public final class BlockList {
+    public int size;
+    private Block[] items = new Block[32];
+
+    public Block get(int i) {
+        return items[i];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public Block add(BlockStore store, int index) {
+        if (size == items.length) items = java.util.Arrays.copyOf(items, size * 2);
+        Block b = items[size];
+        if (b == null) b = items[size] = new Block();
+        size++;
+        return store.view(index, b);
+    }
+}
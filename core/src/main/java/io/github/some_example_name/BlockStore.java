@@ -0,0 +1,234 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * 블록 저장소(struct-of-arrays). 블록 i는 gx[i], gy[i], type[i]로만 표현하고,
+ * 이동 블록의 운동 상태(px, vx, 범위)는 이동 블록끼리 빽빽하게 모은 슬롯 배열에 둔다.
+ * 그래서 정적 블록은 객체 없이 몇 바이트, 이동 블록 갱신은 배열 몇 개를 순서대로 훑는 루프 하나다.
+ *
+ * 이동 슬롯은 SweepAndPrune로 x 정렬을 유지해서, 근처 이동 블록 찾기와 겹침 쌍 구하기가 전체를 훑지 않는다.
+ *
+ * 트리거 블록(GOAL/POISON 등)은 trigger[i]에 TriggerVolumes의 영역 id를 들고 있다(아니면 -1).
+ *
+ * 제거는 마지막 원소를 빈자리로 옮기는 swap-remove. 인덱스를 들고 있는 쪽(BlockGrid)은
+ * removeAt의 반환값으로 옮겨진 블록을 고쳐 준다. 개별 블록이 필요하면 view()로 Block에 복사해서 본다.
+ */
+public final class BlockStore {
+    private static final Block.Type[] TYPES = Block.Type.values();
+    private static final int NOT_MOVING = -1;
+
+    public int size;
+    private int[] gx = new int[64];
+    private int[] gy = new int[64];
+    private byte[] type = new byte[64];        // Block.Type.ordinal()
+    private int[] slot = new int[64];          // 이동 블록 슬롯, 정적이면 NOT_MOVING
+    private int[] trigger = new int[64];       // TriggerVolumes id, 없으면 -1
+
+    // 이동 블록 슬롯 0..movingCount-1
+    public int movingCount;
+    private int[] owner = new int[16];         // 슬롯 -> 블록 인덱스
+    private float[] px = new float[16];
+    private float[] py = new float[16];
+    private float[] prevPx = new float[16];
+    private float[] vx = new float[16];
+    private float[] minX = new float[16];
+    private float[] maxX = new float[16];
+
+    // 이동 슬롯 브로드페이즈(id = 슬롯)
+    private final SweepAndPrune sap = new SweepAndPrune(Constants.TILE, Constants.TILE);
+    private final IntArray hits = new IntArray(false, 32);
+
+    public void clear() {
+        size = 0;
+        movingCount = 0;
+        sap.clear();
+    }
+
+    /** o와 같은 내용으로 만든다. 배열은 모자랄 때만 새로 잡는다. */
+    public void set(BlockStore o) {
+        if (gx.length < o.size) {
+            gx = new int[o.gx.length];
+            gy = new int[o.gx.length];
+            type = new byte[o.gx.length];
+            slot = new int[o.gx.length];
+            trigger = new int[o.gx.length];
+        }
+        size = o.size;
+        System.arraycopy(o.gx, 0, gx, 0, size);
+        System.arraycopy(o.gy, 0, gy, 0, size);
+        System.arraycopy(o.type, 0, type, 0, size);
+        System.arraycopy(o.slot, 0, slot, 0, size);
+        System.arraycopy(o.trigger, 0, trigger, 0, size);
+
+        if (owner.length < o.movingCount) growMoving(o.owner.length);
+        int m = movingCount = o.movingCount;
+        System.arraycopy(o.owner, 0, owner, 0, m);
+        System.arraycopy(o.px, 0, px, 0, m);
+        System.arraycopy(o.py, 0, py, 0, m);
+        System.arraycopy(o.prevPx, 0, prevPx, 0, m);
+        System.arraycopy(o.vx, 0, vx, 0, m);
+        System.arraycopy(o.minX, 0, minX, 0, m);
+        System.arraycopy(o.maxX, 0, maxX, 0, m);
+        sap.set(o.sap);
+    }
+
+    public int gx(int i)              { return gx[i]; }
+    public int gy(int i)              { return gy[i]; }
+    public Block.Type type(int i)     { return TYPES[type[i]]; }
+    public boolean isMoving(int i)    { return slot[i] != NOT_MOVING; }
+    public int trigger(int i)         { return trigger[i]; }
+    public void setTrigger(int i, int id) { trigger[i] = id; }
+
+    public float x(int i) {
+        int k = slot[i];
+        return k == NOT_MOVING ? gx[i] * Constants.TILE : px[k];
+    }
+
+    public float y(int i) {
+        return gy[i] * Constants.TILE;
+    }
+
+    // 이동 블록 슬롯 단위 접근(격자 질의/스트리밍용)
+    public int movingBlock(int k)     { return owner[k]; }
+    public float movingX(int k)       { return px[k]; }
+    public float movingY(int k)       { return py[k]; }
+
+    /** 블록 추가. 반환값은 인덱스. POISON_MOVING이면 이동 슬롯도 만든다(Block 생성자와 같은 초기값). */
+    public int add(int x, int y, Block.Type t) {
+        if (size == gx.length) {
+            int n = size * 2;
+            gx = Arrays.copyOf(gx, n);
+            gy = Arrays.copyOf(gy, n);
+            type = Arrays.copyOf(type, n);
+            slot = Arrays.copyOf(slot, n);
+            trigger = Arrays.copyOf(trigger, n);
+        }
+        int i = size++;
+        gx[i] = x;
+        gy[i] = y;
+        type[i] = (byte) t.ordinal();
+        slot[i] = NOT_MOVING;
+        trigger[i] = -1;
+
+        if (t == Block.Type.POISON_MOVING) {
+            if (movingCount == owner.length) growMoving(movingCount * 2);
+            int k = movingCount++;
+            float bx = x * Constants.TILE;
+            float range = Constants.PURPLE_RANGE_TILES * Constants.TILE;
+            owner[k] = i;
+            px[k] = bx;
+            py[k] = y * Constants.TILE;
+            prevPx[k] = bx;
+            vx[k] = Constants.PURPLE_SPEED;
+            minX[k] = bx - range * 0.5f;
+            maxX[k] = bx + range * 0.5f;
+            slot[i] = k;
+            sap.add(k, px);
+        }
+        return i;
+    }
+
+    private void growMoving(int n) {
+        owner = Arrays.copyOf(owner, n);
+        px = Arrays.copyOf(px, n);
+        py = Arrays.copyOf(py, n);
+        prevPx = Arrays.copyOf(prevPx, n);
+        vx = Arrays.copyOf(vx, n);
+        minX = Arrays.copyOf(minX, n);
+        maxX = Arrays.copyOf(maxX, n);
+    }
+
+    /**
+     * i를 지우고 마지막 블록을 i로 옮긴다. 반환값은 옮겨지기 전 인덱스(옮긴 게 없으면 -1).
+     * 옮겨진 블록이 정적이면 호출한 쪽이 격자 인덱스를 i로 고쳐야 한다.
+     */
+    public int removeAt(int i) {
+        int k = slot[i];
+        if (k != NOT_MOVING) {
+            int lastK = --movingCount;
+            sap.remove(k);
+            if (k != lastK) {
+                sap.rename(lastK, k);
+                owner[k] = owner[lastK];
+                px[k] = px[lastK];
+                py[k] = py[lastK];
+                prevPx[k] = prevPx[lastK];
+                vx[k] = vx[lastK];
+                minX[k] = minX[lastK];
+                maxX[k] = maxX[lastK];
+                slot[owner[k]] = k;
+            }
+        }
+
+        int last = --size;
+        if (i == last) return -1;
+        gx[i] = gx[last];
+        gy[i] = gy[last];
+        type[i] = type[last];
+        slot[i] = slot[last];
+        trigger[i] = trigger[last];
+        if (slot[i] != NOT_MOVING) owner[slot[i]] = i;
+        return last;
+    }
+
+    /** 이동 블록 한 틱(Block.update와 같은 계산). */
+    public void updateMoving(float dt) {
+        for (int k = 0; k < movingCount; k++) {
+            float x = px[k];
+            prevPx[k] = x;
+            x += vx[k] * dt;
+            if (x < minX[k]) { x = minX[k]; vx[k] = Math.abs(vx[k]); }
+            if (x + Constants.TILE > maxX[k]) { x = maxX[k] - Constants.TILE; vx[k] = -Math.abs(vx[k]); }
+            px[k] = x;
+        }
+        sap.update(px);
+    }
+
+    /** (x, y, w, h)에 닿는 이동 블록을 x 순서로 out에 추가(경계 접촉 포함). */
+    public void queryMoving(float x, float y, float w, float h, BlockList out) {
+        hits.clear();
+        sap.query(x, y, w, h, px, py, hits);
+        for (int i = 0; i < hits.size; i++) out.add(this, owner[hits.get(i)]);
+    }
+
+    /** 서로 겹치는 이동 블록 쌍(블록 인덱스 a, b 순서로 out에 추가). 반환값은 쌍 수. */
+    public int movingPairs(IntArray out) {
+        int from = out.size;
+        int n = sap.pairs(px, py, out);
+        for (int i = from; i < out.size; i++) out.set(i, owner[out.get(i)]);
+        return n;
+    }
+
+    /** 블록 i를 out에 복사(읽기 전용 뷰). */
+    public Block view(int i, Block out) {
+        out.index = i;
+        out.gx = gx[i];
+        out.gy = gy[i];
+        out.type = TYPES[type[i]];
+        int k = slot[i];
+        out.moving = k != NOT_MOVING;
+        if (out.moving) {
+            out.px = px[k];
+            out.py = py[k];
+            out.prevPx = prevPx[k];
+            out.vx = vx[k];
+            out.minX = minX[k];
+            out.maxX = maxX[k];
+        } else {
+            out.px = gx[i] * Constants.TILE;
+            out.py = gy[i] * Constants.TILE;
+            out.prevPx = out.px;
+            out.vx = 0f;
+            out.minX = out.maxX = 0f;
+        }
+        return out;
+    }
+
+    /** 현재 배열이 차지하는 대략의 바이트(객체 헤더 제외). */
+    public long footprintBytes() {
+        return (long) gx.length * (4 + 4 + 1 + 4 + 4) + (long) owner.length * (4 + 6 * 4);
+    }
+}
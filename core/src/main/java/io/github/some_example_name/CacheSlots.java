@@ -0,0 +1,54 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * SpriteCache 안 캐시 자리 계산(StaticTileCache용). GL 없이 테스트할 수 있게 따로 뺐다.
+ *
+ * SpriteCache 규칙: 캐시 id마다 처음 만들 때 넣은 수가 한도이고, beginCache(id)로 다시 넣을 때 한도를 넘으면 예외다.
+ * 단 마지막으로 만든 캐시는 beginCache(id)가 지우고 끝에 새로 만들기 때문에 남은 용량까지 커질 수 있고,
+ * 한도도 새로 넣은 수로 바뀐다(줄었다면 줄어든 채로 남는다).
+ */
+final class CacheSlots {
+    private int capacity;
+    private int used;               // 만든 캐시들이 차지한 스프라이트 수(버린 자리 포함)
+    private int newest = -1;        // 마지막으로 만든 캐시 id
+    private int[] limit = new int[16];
+
+    /** SpriteCache를 새로 만들었거나 clear()했을 때. */
+    void reset(int capacity) {
+        this.capacity = capacity;
+        used = 0;
+        newest = -1;
+    }
+
+    int capacity() { return capacity; }
+    int used()     { return used; }
+
+    /** id에 n개를 다시 넣을 수 있는지. */
+    boolean fits(int id, int n) {
+        if (id < 0) return false;
+        if (id == newest) return used - limit[id] + n <= capacity;
+        return n <= limit[id];
+    }
+
+    /** id에 n개를 다시 넣은 뒤. */
+    void redefined(int id, int n) {
+        if (id != newest) return;
+        used += n - limit[id];
+        limit[id] = n;
+    }
+
+    /** 끝에 n개짜리 새 캐시를 만들 수 있는지. */
+    boolean canAdd(int n) {
+        return used + n <= capacity;
+    }
+
+    /** 끝에 n개짜리 캐시 id를 만든 뒤. */
+    void added(int id, int n) {
+        if (id >= limit.length) limit = Arrays.copyOf(limit, Math.max(id + 1, limit.length * 2));
+        limit[id] = n;
+        used += n;
+        newest = id;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.some_example_name;
+
+/** 청크 스트리밍용 타일 공급자. read는 백그라운드 디코딩 스레드에서 불리므로 스레드 안전해야 한다. */
+public interface ChunkSource {
+    int width();
+
+    int height();
+
+    /** 열 [x0, x0 + cols)의 타일 코드(LevelData 형식)를 out[gy * cols + (gx - x0)]에 채운다. */
+    void read(int x0, int cols, byte[] out);
+}
@@ -0,0 +1,233 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 아주 넓은 맵을 CHUNK_COLS 열 단위로 나눠 플레이어 근처만 GameWorld에 올려 두는 스트리머.
+ *
+ * 타일 디코딩(ChunkSource.read)은 백그라운드 스레드에서 하고, 블록 생성/제거는 update()에서
+ * 메인(시뮬레이션) 스레드가 한다. 부서진 블록은 청크별 비트셋으로 기억해서 다시 로드해도 돌아오지 않는다.
+ */
+public class ChunkStreamer {
+    public static final int CHUNK_COLS = 32;
+    public static final int LOAD_RADIUS = 2;   // 플레이어 청크 ± 이만큼 미리 요청
+    public static final int KEEP_RADIUS = 3;   // 이보다 멀어지면 내린다
+
+    /** 링 격자에 필요한 열 수. KEEP_RADIUS 안의 청크가 서로 다른 슬롯에 들어간다. */
+    public static final int RING_COLUMNS = (2 * KEEP_RADIUS + 1) * CHUNK_COLS;
+
+    private static final ExecutorService DECODER = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "chunk-decoder");
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    // 디코딩된 청크(버퍼는 재사용)
+    private static final class Chunk {
+        int index;
+        int generation;
+        byte[] tiles;
+    }
+
+    private final GameWorld world;
+    private final ConcurrentLinkedQueue<Chunk> decoded = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Chunk> free = new ConcurrentLinkedQueue<>();
+
+    // 청크별 부서진 칸(gy * CHUNK_COLS + 열). 메인 스레드 전용
+    private final IntMap<BitSet> broken = new IntMap<>();
+
+    private ChunkSource source;
+    private volatile int generation;
+    private boolean[] loaded = new boolean[0];
+    private boolean[] pending = new boolean[0];
+    private int chunkCount;
+    private int loadedCount;
+
+    // 올라온 청크가 있을 수 있는 범위 [residentLo, residentHi](비었으면 lo > hi). 내릴 청크는 이 안에서만 찾는다
+    private int residentLo, residentHi = -1;
+
+    public ChunkStreamer(GameWorld world) {
+        this.world = world;
+    }
+
+    public ChunkSource source() { return source; }
+    public int chunkCount()     { return chunkCount; }
+    public int loadedChunks()   { return loadedCount; }
+
+    public static int chunkOf(int gx) {
+        return gx / CHUNK_COLS;
+    }
+
+    /** 새 소스로 시작(부서진 칸 기록도 지운다). 격자는 GameWorld가 resetRing으로 비워 둔 상태여야 한다. */
+    public void start(ChunkSource source) {
+        this.source = source;
+        broken.clear();
+        restart();
+    }
+
+    /** 같은 소스를 처음 상태로 다시 받는다(재시작). */
+    public void restart() {
+        generation++;
+        decoded.clear();
+        chunkCount = (source.width() + CHUNK_COLS - 1) / CHUNK_COLS;
+        if (loaded.length < chunkCount) {
+            loaded = new boolean[chunkCount];
+            pending = new boolean[chunkCount];
+        } else {
+            java.util.Arrays.fill(loaded, false);
+            java.util.Arrays.fill(pending, false);
+        }
+        loadedCount = 0;
+        residentLo = 0;
+        residentHi = -1;
+    }
+
+    public void dispose() {
+        generation++;
+        decoded.clear();
+        source = null;
+        chunkCount = 0;
+        loadedCount = 0;
+        residentLo = 0;
+        residentHi = -1;
+    }
+
+    /** 매 틱 시작에 호출. focusX는 플레이어 월드 x. */
+    public void update(float focusX) {
+        if (source == null || chunkCount == 0) return;
+        int focus = Math.max(0, Math.min(chunkCount - 1, chunkOf(BlockGrid.cellOf(focusX))));
+
+        // 먼 청크부터 내려야 링 슬롯이 비어 새 청크와 겹치지 않는다. 남는 건 focus ± KEEP_RADIUS 안뿐
+        for (int c = residentLo; c <= residentHi; c++) {
+            if (loaded[c] && Math.abs(c - focus) > KEEP_RADIUS) evict(c);
+        }
+        residentLo = Math.max(residentLo, focus - KEEP_RADIUS);
+        residentHi = Math.min(residentHi, focus + KEEP_RADIUS);
+
+        // 디코딩 끝난 청크 반영
+        Chunk ch;
+        while ((ch = decoded.poll()) != null) {
+            int c = ch.index;
+            if (ch.generation == generation) {
+                pending[c] = false;
+                if (!loaded[c] && Math.abs(c - focus) <= KEEP_RADIUS) materialize(c, ch.tiles);
+            }
+            free.offer(ch);
+        }
+
+        // 바로 밟을 청크가 아직 없으면 기다리지 않고 여기서 읽는다
+        for (int c = focus - 1; c <= focus + 1; c++) {
+            if (c < 0 || c >= chunkCount || loaded[c]) continue;
+            Chunk sync = obtain();
+            source.read(c * CHUNK_COLS, CHUNK_COLS, sync.tiles);
+            materialize(c, sync.tiles);
+            free.offer(sync);
+        }
+
+        for (int c = focus - LOAD_RADIUS; c <= focus + LOAD_RADIUS; c++) {
+            if (c < 0 || c >= chunkCount || loaded[c] || pending[c]) continue;
+            request(c);
+        }
+    }
+
+    /** 부서진 블록 기록. 청크를 내렸다 다시 올려도 그 칸은 비어 있다. */
+    public void recordBroken(int gx, int gy) {
+        int c = chunkOf(gx);
+        BitSet bits = broken.get(c);
+        if (bits == null) {
+            bits = new BitSet(CHUNK_COLS * Math.max(1, source == null ? 1 : source.height()));
+            broken.put(c, bits);
+        }
+        bits.set(gy * CHUNK_COLS + (gx - c * CHUNK_COLS));
+    }
+
+    private void request(final int c) {
+        pending[c] = true;
+        final Chunk ch = obtain();
+        final ChunkSource src = source;
+        final int gen = generation;
+        ch.index = c;
+        ch.generation = gen;
+        DECODER.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (gen != generation) { free.offer(ch); return; }
+                try {
+                    src.read(c * CHUNK_COLS, CHUNK_COLS, ch.tiles);
+                    decoded.offer(ch);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                    free.offer(ch);
+                }
+            }
+        });
+    }
+
+    private Chunk obtain() {
+        int size = CHUNK_COLS * source.height();
+        Chunk ch = free.poll();
+        if (ch == null) ch = new Chunk();
+        if (ch.tiles == null || ch.tiles.length < size) ch.tiles = new byte[size];
+        else java.util.Arrays.fill(ch.tiles, 0, size, LevelData.EMPTY);
+        return ch;
+    }
+
+    private void materialize(int c, byte[] tiles) {
+        int x0 = c * CHUNK_COLS;
+        int cols = Math.min(CHUNK_COLS, source.width() - x0);
+        int height = source.height();
+        BitSet gone = broken.get(c);
+
+        for (int i = 0; i < cols; i++) world.grid.claimColumn(x0 + i);
+        for (int gy = height - 1; gy >= 0; gy--) {
+            for (int i = 0; i < cols; i++) {
+                int k = gy * CHUNK_COLS + i;
+                Block.Type t = LevelData.typeOf(tiles[k]);
+                if (t == null || (gone != null && gone.get(k))) continue;
+                world.addBlock(x0 + i, gy, t);
+            }
+        }
+        loaded[c] = true;
+        loadedCount++;
+        if (residentLo > residentHi) {
+            residentLo = c;
+            residentHi = c;
+        } else {
+            residentLo = Math.min(residentLo, c);
+            residentHi = Math.max(residentHi, c);
+        }
+        world.fireColumnsChanged(x0, x0 + cols);
+    }
+
+    private void evict(int c) {
+        int x0 = c * CHUNK_COLS;
+        int x1 = Math.min(source.width(), x0 + CHUNK_COLS);
+        BlockGrid grid = world.grid;
+        BlockStore blocks = world.blocks;
+
+        // 뒤에서부터: 지운 슬롯에는 이미 본 마지막 슬롯이 들어온다
+        for (int k = blocks.movingCount - 1; k >= 0; k--) {
+            int i = blocks.movingBlock(k);
+            if (blocks.gx(i) >= x0 && blocks.gx(i) < x1) world.removeAt(i);
+        }
+        for (int gx = x0; gx < x1; gx++) {
+            for (int gy = 0; gy < grid.height(); gy++) {
+                int idx = grid.get(gx, gy);
+                if (idx != BlockGrid.EMPTY) world.removeAt(idx);
+            }
+            grid.releaseColumn(gx);
+        }
+        loaded[c] = false;
+        loadedCount--;
+        world.fireColumnsChanged(x0, x1);
+    }
+}
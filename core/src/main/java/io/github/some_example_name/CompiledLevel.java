@@ -0,0 +1,54 @@
+package io.github.some_example_name;
+
+/**
+ * 미리 만들어 둔 레벨(불변). 타일 격자(LevelData) + 이동 블록 스폰 표 + 그대로 복사하면 되는
+ * BlockStore/BlockGrid/TriggerVolumes 이미지. GameWorld는 문자 파싱이나 블록 생성 없이 배열만 복사해서 레벨을 만든다.
+ *
+ * 만든 뒤에는 아무도 고치지 않으므로 여러 월드/스레드가 같이 읽어도 된다(CompiledLevelCache로 공유).
+ */
+public final class CompiledLevel {
+    public final LevelData tiles;
+
+    final BlockStore blocks = new BlockStore();
+    final BlockGrid grid = new BlockGrid();
+    final TriggerVolumes triggers = new TriggerVolumes();
+
+    // 이동 블록 스폰 칸(gx, gy) 쌍
+    private final int[] movingSpawns;
+
+    private CompiledLevel(LevelData tiles) {
+        this.tiles = tiles;
+        grid.reset(tiles.width, tiles.height);
+        triggers.reset(tiles.width);
+
+        // 위쪽 행부터(예전 문자열 파싱과 같은 순서 = 같은 블록 인덱스)
+        for (int gy = tiles.height - 1; gy >= 0; gy--) {
+            for (int gx = 0; gx < tiles.width; gx++) {
+                Block.Type t = tiles.get(gx, gy);
+                if (t == null) continue;
+                int i = blocks.add(gx, gy, t);
+                if (!blocks.isMoving(i)) grid.set(gx, gy, i);
+                triggers.addBlock(blocks, i);
+            }
+        }
+
+        movingSpawns = new int[blocks.movingCount * 2];
+        for (int k = 0; k < blocks.movingCount; k++) {
+            int i = blocks.movingBlock(k);
+            movingSpawns[k * 2] = blocks.gx(i);
+            movingSpawns[k * 2 + 1] = blocks.gy(i);
+        }
+    }
+
+    public static CompiledLevel compile(LevelData tiles) {
+        return new CompiledLevel(tiles);
+    }
+
+    public int width()        { return tiles.width; }
+    public int height()       { return tiles.height; }
+    public int blockCount()   { return blocks.size; }
+
+    public int movingCount()        { return movingSpawns.length / 2; }
+    public int movingSpawnX(int k)  { return movingSpawns[k * 2]; }
+    public int movingSpawnY(int k)  { return movingSpawns[k * 2 + 1]; }
+}
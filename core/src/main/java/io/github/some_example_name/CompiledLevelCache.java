@@ -0,0 +1,64 @@
+package io.github.some_example_name;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CompiledLevel LRU 캐시. 여러 GameWorld(배치 시뮬레이션 등)가 한 벌을 같이 쓴다. 스레드 안전.
+ *
+ * 키는 내장 레벨 번호(Integer)나 LevelData(내용이 같으면 적중). 컴파일은 잠금 밖에서 해서
+ * 다른 레벨을 읽는 스레드를 막지 않고, 같은 키를 동시에 컴파일하면 먼저 넣은 쪽을 쓴다.
+ */
+public final class CompiledLevelCache {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static final CompiledLevelCache SHARED = new CompiledLevelCache(DEFAULT_CAPACITY);
+
+    public static CompiledLevelCache shared() {
+        return SHARED;
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Object, CompiledLevel> map;
+    private long hits, misses;
+
+    public CompiledLevelCache(final int capacity) {
+        this.capacity = Math.max(1, capacity);
+        map = new LinkedHashMap<Object, CompiledLevel>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CompiledLevel> eldest) {
+                return size() > CompiledLevelCache.this.capacity;
+            }
+        };
+    }
+
+    public synchronized CompiledLevel get(Object key) {
+        CompiledLevel c = map.get(key);
+        if (c != null) hits++;
+        else misses++;
+        return c;
+    }
+
+    /** 이미 같은 키가 있으면 그것을 돌려준다(동시에 컴파일한 경우). */
+    public synchronized CompiledLevel put(Object key, CompiledLevel level) {
+        CompiledLevel old = map.get(key);
+        if (old != null) return old;
+        map.put(key, level);
+        return level;
+    }
+
+    /** key의 레벨. 없으면 tiles를 컴파일해서 넣는다. */
+    public CompiledLevel get(Object key, LevelData tiles) {
+        CompiledLevel c = get(key);
+        return c != null ? c : put(key, CompiledLevel.compile(tiles));
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size()    { return map.size(); }
+    public synchronized long hits()   { return hits; }
+    public synchronized long misses() { return misses; }
+    public int capacity()             { return capacity; }
+}
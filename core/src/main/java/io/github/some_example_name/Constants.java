@@ -10,6 +10,10 @@ public final class Constants {
     public static final float MOVE_SPEED = 200f;
     public static final float JUMP_VELOCITY = 520f;
 
+    // Fixed-step simulation
+    public static final int SIM_HZ = 60;                 // 초당 틱 수
+    public static final int MAX_STEPS_PER_FRAME = 5;     // 한 프레임에 따라잡을 최대 틱 수
+
     // Double Jump
     public static final int MAX_JUMPS = 2; // 2단 점프
 
@@ -34,9 +38,9 @@ public final class Constants {
     public static final int   PURPLE_RANGE_TILES = 6;          // 왕복 범위
 
     // Slippery
-    public static final float SLIPPERY_DECAY = 0.985f;         // 미끄럼 감쇠(1에 가까울수록 오래 미끄러짐)
+    public static final float SLIPPERY_DECAY = 0.985f;         // 60Hz 틱당 미끄럼 감쇠(1에 가까울수록 오래 미끄러짐)
 
     // 이동 블록 위 운반 비율
-    public static final float MOVING_CARRY_RATIO = 0.06f;      // b.vx 일부를 플레이어에 전달
+    public static final float MOVING_CARRY_RATIO = 0.06f;      // 60Hz 틱당 b.vx 일부를 플레이어에 전달
 
 }
@@ -0,0 +1,41 @@
+package io.github.some_example_name;
+
+/** 프레임 dt를 누적해서 고정 길이 틱 수로 바꿔주는 누산기. alpha는 렌더 보간 비율(0~1). */
+public class FixedTimestep {
+    private float step;
+    private final int maxStepsPerFrame;
+    private float accumulator = 0f;
+    private float alpha = 0f;
+
+    public FixedTimestep(int tickRate, int maxStepsPerFrame) {
+        setTickRate(tickRate);
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    public void setTickRate(int tickRate) {
+        step = 1f / Math.max(1, tickRate);
+    }
+
+    public float stepSeconds() { return step; }
+    public float alpha() { return alpha; }
+
+    /** 이번 프레임에 돌릴 틱 수. 밀린 시간이 maxStepsPerFrame을 넘으면 나머지는 버린다(spiral of death 방지). */
+    public int advance(float frameDt) {
+        accumulator += Math.max(0f, frameDt);
+        int ticks = (int) (accumulator / step);
+        if (ticks > maxStepsPerFrame) {
+            ticks = maxStepsPerFrame;
+            accumulator = 0f;
+        } else {
+            accumulator -= ticks * step;
+        }
+        alpha = accumulator / step;
+        return ticks;
+    }
+
+    // 사망/클리어처럼 남은 틱을 더 돌리면 안 될 때
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프레임 구간별 시간 측정기. Main.render의 각 단계를 begin/end로 감싸면 프레임마다 링 버퍼에 쌓고,
+ * 최근 WINDOW 프레임의 p50/p99/max를 오버레이로 보여 준다(F3). CSV로 내보낼 수 있다(F4).
+ * 프레임(beginFrame~endFrame) 동안 렌더 스레드가 할당한 바이트도 같이 잰다(지원하지 않는 JVM이면 -1).
+ *
+ * 측정 중에는 할당하지 않는다: 버퍼와 문자열 빌더는 미리 잡아 두고, 통계는 STATS_EVERY 프레임마다
+ * 미리 잡은 배열에 복사해 정렬한다(오버레이가 보일 때만). 할당은 writeCsv에서만.
+ */
+public class FrameProfiler {
+    // 구간
+    public static final int INPUT = 0;      // handleInput
+    public static final int STEP = 1;       // simulate(world.step)
+    public static final int WORLD = 2;      // 정적 캐시 + 배치의 타일/GIF
+    public static final int SHAPES = 3;     // 도형(흰 영역): 플레이어, 대체 타일, 왕관
+    public static final int HUD = 4;        // HUD 글자/패널(오버레이 포함) + 배치 end
+    public static final int PHASES = 5;
+
+    // 프레임 값(링 버퍼 열). 구간 번호 뒤에 이어진다
+    public static final int FRAME = PHASES;
+    public static final int GC_COUNT = PHASES + 1;
+    public static final int GC_MS = PHASES + 2;
+    public static final int HEAP_MB = PHASES + 3;
+    public static final int RENDER_CALLS = PHASES + 4;
+    public static final int MAX_SPRITES = PHASES + 5;
+    public static final int ALLOC_BYTES = PHASES + 6;
+    public static final int METRICS = PHASES + 7;
+
+    private static final String[] NAMES = {
+        "input", "step", "world", "shapes", "hud", "frame", "gc", "gc_ms", "heap_mb", "calls", "sprites", "alloc_b"
+    };
+    private static final boolean[] TIME = {
+        true, true, true, true, true, true, false, true, false, false, false, false
+    };
+
+    public static final int WINDOW = 240;   // 4초(60fps)
+    private static final int STATS_EVERY = 15;
+
+    public boolean visible;
+
+    private final float[][] ring = new float[METRICS][WINDOW];
+    private int head, count;
+    private long frames;
+
+    private final long[] phaseStart = new long[PHASES];
+    private final long[] phaseNanos = new long[PHASES];
+    private long frameStart;
+
+    private final GarbageCollectorMXBean[] gcs;
+    private long lastGcCount, lastGcMs;
+    private final Runtime runtime = Runtime.getRuntime();
+
+    private final boolean allocSupported = AllocationCounter.isSupported();
+    private long allocStart, allocOverhead;
+    private long lastAllocBytes;
+
+    // 통계: [지표][p50, p99, max]
+    private final float[] sorted = new float[WINDOW];
+    private final float[][] stats = new float[METRICS][3];
+    private final StringBuilder text = new StringBuilder(1024);
+
+    public FrameProfiler() {
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        gcs = beans.toArray(new GarbageCollectorMXBean[0]);
+        lastGcCount = gcCount();
+        lastGcMs = gcMillis();
+        if (allocSupported) {
+            long a = AllocationCounter.threadAllocatedBytes();
+            allocOverhead = AllocationCounter.threadAllocatedBytes() - a;
+        }
+    }
+
+    public void beginFrame() {
+        frameStart = System.nanoTime();
+        Arrays.fill(phaseNanos, 0L);
+        if (allocSupported) allocStart = AllocationCounter.threadAllocatedBytes();
+    }
+
+    public void begin(int phase) {
+        phaseStart[phase] = System.nanoTime();
+    }
+
+    // 한 프레임에 여러 번 begin/end 해도 더해진다
+    public void end(int phase) {
+        phaseNanos[phase] += System.nanoTime() - phaseStart[phase];
+    }
+
+    /** 프레임 끝. SpriteBatch의 최대 배치 크기는 프레임마다 다시 재도록 0으로 돌린다. */
+    public void endFrame(int renderCalls, SpriteBatch batch) {
+        endFrame(renderCalls, batch.maxSpritesInBatch);
+        batch.maxSpritesInBatch = 0;
+    }
+
+    public void endFrame(int renderCalls, int maxSprites) {
+        lastAllocBytes = allocSupported
+            ? Math.max(0L, AllocationCounter.threadAllocatedBytes() - allocStart - allocOverhead) : -1L;
+        long now = System.nanoTime();
+        long gcCount = gcCount(), gcMs = gcMillis();
+
+        int i = head;
+        for (int p = 0; p < PHASES; p++) ring[p][i] = phaseNanos[p] / 1e6f;
+        ring[FRAME][i] = (now - frameStart) / 1e6f;
+        ring[GC_COUNT][i] = gcCount - lastGcCount;
+        ring[GC_MS][i] = gcMs - lastGcMs;
+        ring[HEAP_MB][i] = (runtime.totalMemory() - runtime.freeMemory()) / (1024f * 1024f);
+        ring[RENDER_CALLS][i] = renderCalls;
+        ring[MAX_SPRITES][i] = maxSprites;
+        ring[ALLOC_BYTES][i] = lastAllocBytes;
+        lastGcCount = gcCount;
+        lastGcMs = gcMs;
+
+        head = (head + 1) % WINDOW;
+        if (count < WINDOW) count++;
+        frames++;
+        if (visible && frames % STATS_EVERY == 0) updateStats();
+    }
+
+    private long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : gcs) n += Math.max(0L, gc.getCollectionCount());
+        return n;
+    }
+
+    private long gcMillis() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : gcs) n += Math.max(0L, gc.getCollectionTime());
+        return n;
+    }
+
+    public int frameCount() { return count; }
+
+    /** 마지막 프레임 동안 렌더 스레드가 할당한 바이트(지원 안 하면 -1). */
+    public long lastFrameAllocatedBytes() { return lastAllocBytes; }
+
+    /** 지표 m의 최근 값(0 = 마지막 프레임). */
+    public float recent(int m, int back) {
+        return ring[m][(head - 1 - back + WINDOW * 2) % WINDOW];
+    }
+
+    public float p50(int m) { return stats[m][0]; }
+    public float p99(int m) { return stats[m][1]; }
+    public float max(int m) { return stats[m][2]; }
+
+    public void updateStats() {
+        if (count == 0) return;
+        for (int m = 0; m < METRICS; m++) {
+            System.arraycopy(ring[m], 0, sorted, 0, count);
+            shellSort(sorted, count);
+            stats[m][0] = sorted[(count - 1) / 2];
+            stats[m][1] = sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)];
+            stats[m][2] = sorted[count - 1];
+        }
+        buildText();
+    }
+
+    // Arrays.sort(float[])는 입력 모양에 따라 작업 배열을 할당할 수 있어서 직접 정렬
+    private static void shellSort(float[] a, int n) {
+        for (int gap = n / 2; gap > 0; gap /= 2) {
+            for (int i = gap; i < n; i++) {
+                float v = a[i];
+                int j = i;
+                while (j >= gap && a[j - gap] > v) {
+                    a[j] = a[j - gap];
+                    j -= gap;
+                }
+                a[j] = v;
+            }
+        }
+    }
+
+    // "step    0.42 / 1.10 / 2.31 ms" 같은 줄들. 숫자는 정수 append로만 만든다
+    private void buildText() {
+        StringBuilder sb = text;
+        sb.setLength(0);
+        sb.append("frame profile (last ").append(count).append(")  p50 / p99 / max\n");
+        for (int m = 0; m < METRICS; m++) {
+            sb.append(NAMES[m]);
+            for (int pad = NAMES[m].length(); pad < 9; pad++) sb.append(' ');
+            for (int k = 0; k < 3; k++) {
+                if (k > 0) sb.append(" / ");
+                appendFixed(sb, stats[m][k], TIME[m] || m == HEAP_MB ? 2 : 0);
+            }
+            if (TIME[m]) sb.append(" ms");
+            sb.append('\n');
+        }
+    }
+
+    private static void appendFixed(StringBuilder sb, float v, int decimals) {
+        if (v < 0) {
+            sb.append('-');
+            v = -v;
+        }
+        int scale = decimals == 0 ? 1 : decimals == 1 ? 10 : 100;
+        long scaled = Math.round(v * scale);
+        sb.append(scaled / scale);
+        if (decimals == 0) return;
+        sb.append('.');
+        long frac = scaled % scale;
+        if (decimals == 2 && frac < 10) sb.append('0');
+        sb.append(frac);
+    }
+
+    public CharSequence text() {
+        return text;
+    }
+
+    /** 오버레이. HUD 배치(begin/end 사이)에서 호출. */
+    public void draw(SpriteBatch batch, BitmapFont font, float x, float y) {
+        if (!visible) return;
+        if (text.length() == 0) updateStats();
+        font.draw(batch, text, x, y);
+    }
+
+    /** 링 버퍼 전체를 CSV로(오래된 프레임부터). 여기서만 할당한다. */
+    public void writeCsv(File file) throws IOException {
+        try (Writer out = new FileWriter(file)) {
+            writeCsv(out);
+        }
+    }
+
+    public void writeCsv(Writer out) throws IOException {
+        out.write("frame");
+        for (String name : NAMES) {
+            out.write(',');
+            out.write(name);
+        }
+        out.write('\n');
+        long first = frames - count;
+        for (int n = 0; n < count; n++) {
+            int i = (head - count + n + WINDOW) % WINDOW;
+            out.write(Long.toString(first + n));
+            for (int m = 0; m < METRICS; m++) {
+                out.write(',');
+                out.write(Float.toString(ring[m][i]));
+            }
+            out.write('\n');
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package io.github.some_example_name;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 public class GameCharacter {
     public final Vector2 pos = new Vector2();
     public final Vector2 vel = new Vector2();
+    public final Vector2 prevPos = new Vector2();   // 직전 틱 위치(렌더 보간용)
     public final float w = 22, h = 28;
 
     public boolean grounded = false;
@@ -22,10 +21,18 @@ public class GameCharacter {
 
     public GameCharacter(float x, float y) {
         pos.set(x, y);
+        prevPos.set(x, y);
     }
 
+    public float renderX(float alpha) { return prevPos.x + (pos.x - prevPos.x) * alpha; }
+    public float renderY(float alpha) { return prevPos.y + (pos.y - prevPos.y) * alpha; }
+
     public Rectangle getBounds() {
-        return new Rectangle(pos.x, pos.y, w, h);
+        return getBounds(new Rectangle());
+    }
+
+    public Rectangle getBounds(Rectangle out) {
+        return out.set(pos.x, pos.y, w, h);
     }
 
     public void startDash(int direction) {
@@ -39,9 +46,4 @@ public class GameCharacter {
         dashing = false;
         vel.x = 0f;
     }
-
-    public void draw(ShapeRenderer sr) {
-        sr.setColor(dashing ? Color.SCARLET : (grounded ? Color.SKY : Color.CYAN));
-        sr.rect(pos.x, pos.y, w, h);
-    }
 }
@@ -0,0 +1,88 @@
+package io.github.some_example_name;
+
+/**
+ * 게임 이벤트를 Java Flight Recorder로 내보낸다(틱, 레벨 로드, 에셋 로드, 죽음, 블록 파괴).
+ * JMC 등에서 GC/JIT 이벤트와 같은 타임라인으로 볼 수 있다.
+ *
+ * JFR이 없는 JVM(jdk.jfr 모듈이 빠진 런타임 등)에서는 전부 아무것도 하지 않는다.
+ * 실행 중인 기록이 없으면 이벤트 객체를 만들지 않으므로 step()의 무할당도 그대로다.
+ * 기간 이벤트는 begin*()이 돌려준 값(null일 수 있음)을 end*()에 넘긴다.
+ */
+public final class GameEvents {
+    private GameEvents() {}
+
+    private static final boolean AVAILABLE = init();
+
+    private static boolean init() {
+        try {
+            return JfrEvents.init();
+        } catch (LinkageError | RuntimeException e) {
+            return false;
+        }
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /** 게임 이벤트를 포함한 기록을 시작한다. 게임이 끝날 때(stopRecording 또는 JVM 종료) file에 쓴다. */
+    public static boolean startRecording(String file) {
+        if (!AVAILABLE) {
+            System.err.println("JFR is not available in this JVM; " + file + " will not be written");
+            return false;
+        }
+        try {
+            JfrEvents.start(file);
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    public static void stopRecording() {
+        if (AVAILABLE) JfrEvents.stop();
+    }
+
+    static Object beginTick() {
+        return AVAILABLE ? JfrEvents.beginTick() : null;
+    }
+
+    static void endTick(Object event, int blocksChecked, int collisionsResolved) {
+        if (event != null) JfrEvents.endTick(event, blocksChecked, collisionsResolved);
+    }
+
+    static Object beginLevelLoad() {
+        return AVAILABLE ? JfrEvents.beginLevelLoad() : null;
+    }
+
+    /** kind: "load" / "restart". level: 내장 레벨 번호(외부 맵은 0). */
+    static void endLevelLoad(Object event, String kind, int level, int blocks, int movingBlocks) {
+        if (event != null) JfrEvents.endLevelLoad(event, kind, level, blocks, movingBlocks);
+    }
+
+    static Object beginAssets() {
+        return AVAILABLE ? JfrEvents.beginAssets() : null;
+    }
+
+    static void endAssets(Object event, int files, boolean packed) {
+        if (event != null) JfrEvents.endAssets(event, files, packed);
+    }
+
+    static Object beginGif() {
+        return AVAILABLE ? JfrEvents.beginGif() : null;
+    }
+
+    static void endGif(Object event, String file, int frames, int bytes) {
+        if (event != null) JfrEvents.endGif(event, file, frames, bytes);
+    }
+
+    /** cause: "fall" / "poison". (x, y)는 플레이어 위치. */
+    static void playerDeath(String cause, int level, float x, float y) {
+        if (AVAILABLE) JfrEvents.playerDeath(cause, level, x, y);
+    }
+
+    static void blockBroken(int gx, int gy, boolean dash) {
+        if (AVAILABLE) JfrEvents.blockBroken(gx, gy, dash);
+    }
+}
@@ -2,11 +2,25 @@ package io.github.some_example_name;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
 public class GameWorld {
-    public final Array<Block> blocks = new Array<>();
+    /** 맵이 바뀌는 순간 알림(렌더 캐시 무효화 등). 시뮬레이션 스레드에서 불린다. */
+    public interface Listener {
+        // 맵 전체가 새로 만들어짐(로드/재시작/클리어)
+        void levelLoaded(GameWorld world);
+
+        // 블록 하나가 부서짐(이미 blocks에서 빠진 상태)
+        void blockBroken(GameWorld world, Block b);
+
+        // 스트리밍으로 열 [x0, x1)의 블록이 올라오거나 내려감
+        void columnsChanged(GameWorld world, int x0, int x1);
+    }
+
+    public final BlockStore blocks = new BlockStore();          // 순서 없음: 제거는 마지막 원소로 채움
+    public final BlockGrid grid = new BlockGrid();
+    public final TriggerVolumes triggers = new TriggerVolumes();  // 골/독 등 겹침 알림(리스너를 붙여 코인 등을 추가)
     public final GameCharacter player;
     public final GameState state = new GameState();
 
@@ -21,19 +35,82 @@ public class GameWorld {
     // 프레임 동안 옆면에 닿았는지 표시
     private boolean touchingWallThisFrame = false;
 
+    // 이번 틱 길이를 60Hz 틱 단위로(dt * SIM_HZ). 틱마다 곱하는 감쇠/운반을 틱 레이트와 무관하게 맞춘다
+    private float tickScale = 1f;
+
+    // loadLevel(LevelData)로 읽은 외부 맵(없으면 내장 레벨)
+    private LevelData customLevel;
+
+    // 컴파일된 레벨 공유 캐시
+    private final CompiledLevelCache levels;
+
+    // loadLevel(ChunkSource)로 연 스트리밍 맵(없으면 null)
+    private ChunkStreamer streamer;
+
+    private final Array<Listener> listeners = new Array<>(false, 4);
+
+    // buildLevel 직후 상태(재시작용). 스트리밍/클리어 중에는 비어 있다
+    private final Snapshot levelStart = new Snapshot();
+
+    // 충돌 질의 결과 재사용 버퍼
+    private final BlockList nearby = new BlockList();
+
+    // 이번 틱에 충돌 검사한 블록 수 / 막힌 이동 수(JFR 틱 이벤트용)
+    private int tickChecked, tickResolved;
+
+    // 월드가 직접 처리하는 트리거. 알림 중에는 표시만 하고 레벨 전환은 update가 끝난 뒤에
+    private boolean hitKill, hitGoal;
+    private final TriggerVolumes.Listener rules = new TriggerVolumes.Listener() {
+        @Override
+        public void enter(TriggerVolumes t, int id) {
+            stay(t, id);
+        }
+
+        @Override
+        public void stay(TriggerVolumes t, int id) {
+            if (t.kind(id) == TriggerVolumes.Kind.KILL) hitKill = true;
+            else if (t.kind(id) == TriggerVolumes.Kind.GOAL) hitGoal = true;
+        }
+
+        @Override
+        public void exit(TriggerVolumes t, int id) {
+        }
+    };
+
+    // step()에서 매 틱 재사용하는 사각형(할당 방지)
+    private final Rectangle playerBounds = new Rectangle();
+    private final Rectangle moveX = new Rectangle();
+    private final Rectangle moveY = new Rectangle();
+    private final Rectangle sweepX = new Rectangle();
+    private final Rectangle sweepY = new Rectangle();
+    private final Rectangle probe = new Rectangle();
+
     public GameWorld() {
+        this(CompiledLevelCache.shared());
+    }
+
+    /** levels: 컴파일된 레벨 캐시(여러 월드가 같이 쓴다). */
+    public GameWorld(CompiledLevelCache levels) {
+        this.levels = levels;
+        triggers.addListener(rules);
         player = new GameCharacter(64, 96);
         loadLevel(1);
     }
 
+    // 재시작은 맵을 다시 만들지 않고 로드 직후 사본으로 되돌린다
     public void restartLevel(boolean resetPoint) {
-        int lv = state.currentLevel;
-        loadLevel(lv);
-        if (resetPoint) state.point = 0;
+        Object event = GameEvents.beginLevelLoad();
+        int point = state.point;
+        if (streamer != null) buildStream(false);
+        else if (levelStart.valid) restore(levelStart);
+        else if (customLevel != null) buildLevel(levels.get(customLevel, customLevel));
+        else loadLevel(state.currentLevel);
+        state.point = resetPoint ? 0 : point;
+        endLevelLoad(event, "restart");
     }
 
     public void nextLevel() {
-        if (state.currentLevel >= 3) {
+        if (state.currentLevel >= 3 || customLevel != null || streamer != null) {
             completeGame();
             return;
         }
@@ -43,46 +120,125 @@ public class GameWorld {
     }
 
     public void completeGame() {
+        levelStart.valid = false;
         state.cleared = true;
         state.point = 0;
+        stopStreaming();
         blocks.clear();
+        grid.reset(0, 0);
+        triggers.clear();
         player.pos.set(64, 5 * Constants.TILE);
         player.vel.set(0, 0);
         player.grounded = true;
         player.jumpsLeft = Constants.MAX_JUMPS;
         player.stopDash();
+        player.prevPos.set(player.pos);
         onSlippery = false;
+        fireLevelLoaded();
     }
 
     public void loadLevel(int lv) {
+        Object event = GameEvents.beginLevelLoad();
+        stopStreaming();
+        customLevel = null;
+        state.currentLevel = MathUtils.clamp(lv, 1, 3);
+
+        // 행 문자열은 캐시에 없을 때만 만들어 파싱한다
+        Integer key = state.currentLevel;
+        CompiledLevel level = levels.get(key);
+        if (level == null) {
+            String[] rows;
+            switch (state.currentLevel) {
+                case 1: rows = makeLevel1(); break;
+                case 2: rows = makeLevel2(); break;
+                default: rows = makeLevel3(); break;
+            }
+            level = levels.put(key, CompiledLevel.compile(LevelData.fromRows(rows)));
+        }
+        buildLevel(level);
+        endLevelLoad(event, "load");
+    }
+
+    /** 내장 레벨 대신 주어진 행(위쪽 행이 먼저)으로 맵을 만든다. 벤치마크/툴용. 골에 닿으면 게임 클리어. */
+    public void loadLevel(String[] rows) {
+        loadLevel(LevelData.fromRows(rows));
+    }
+
+    /** TMX 등에서 읽은 외부 맵. 재시작하면 같은 맵을 다시 만든다. */
+    public void loadLevel(LevelData level) {
+        Object event = GameEvents.beginLevelLoad();
+        stopStreaming();
+        customLevel = level;
+        buildLevel(levels.get(level, level));
+        endLevelLoad(event, "load");
+    }
+
+    private void endLevelLoad(Object event, String kind) {
+        int level = isCustomLevel() ? 0 : state.currentLevel;
+        GameEvents.endLevelLoad(event, kind, level, blocks.size, blocks.movingCount);
+    }
+
+    /**
+     * 아주 넓은 맵을 청크 단위로 스트리밍한다. 플레이어 근처 청크만 블록으로 올라오고
+     * 나머지는 step()마다 백그라운드에서 읽거나 내린다. 재시작하면 부서진 블록도 되살아난다.
+     */
+    public void loadLevel(ChunkSource source) {
+        Object event = GameEvents.beginLevelLoad();
+        customLevel = null;
+        if (streamer == null) streamer = new ChunkStreamer(this);
+        streamer.start(source);
+        buildStream(true);
+        endLevelLoad(event, "load");
+    }
+
+    public ChunkStreamer streamer() {
+        return streamer;
+    }
+
+    private void stopStreaming() {
+        levelStart.valid = false;
+        if (streamer == null) return;
+        streamer.dispose();
+        streamer = null;
+    }
+
+    private void buildStream(boolean fresh) {
+        ChunkSource source = streamer.source();
+        if (!fresh) streamer.start(source);
+
         state.cleared = false;
         blocks.clear();
-        state.currentLevel = MathUtils.clamp(lv, 1, 3);
         fellThisFrame = false;
         onSlippery = false;
 
-        String[] rows;
-        switch (state.currentLevel) {
-            case 1: rows = makeLevel1(); break;
-            case 2: rows = makeLevel2(); break;
-            default: rows = makeLevel3(); break;
-        }
-        heightTiles = rows.length;
-        widthTiles  = rows[0].length();
-
-        for (int y=0; y<rows.length; y++) {
-            String row = rows[y];
-            for (int x=0; x<row.length(); x++) {
-                char c = row.charAt(x);
-                int gy = rows.length-1-y;
-                if (c == '#') blocks.add(new Block(x, gy, Block.Type.SOLID));
-                if (c == 'B') blocks.add(new Block(x, gy, Block.Type.BREAKABLE));
-                if (c == 'W') blocks.add(new Block(x, gy, Block.Type.GOAL));
-                if (c == 'S') blocks.add(new Block(x, gy, Block.Type.SLIPPERY));
-                if (c == 'R') blocks.add(new Block(x, gy, Block.Type.POISON));           // 보라(정지)
-                if (c == 'r') blocks.add(new Block(x, gy, Block.Type.POISON_MOVING));    // 보라(이동)
-            }
-        }
+        heightTiles = source.height();
+        widthTiles  = source.width();
+        grid.resetRing(widthTiles, heightTiles, ChunkStreamer.RING_COLUMNS);
+        triggers.reset(widthTiles);
+
+        player.pos.set(64, 5 * Constants.TILE);
+        player.vel.set(0, 0);
+        player.grounded = false;
+        player.jumpsLeft = Constants.MAX_JUMPS;
+        player.stopDash();
+
+        streamer.update(player.pos.x);
+        ensureSafeSpawn();
+        player.prevPos.set(player.pos);
+        fireLevelLoaded();
+    }
+
+    // 컴파일된 레벨의 블록/격자 배열을 그대로 복사
+    private void buildLevel(CompiledLevel level) {
+        state.cleared = false;
+        fellThisFrame = false;
+        onSlippery = false;
+
+        heightTiles = level.height();
+        widthTiles  = level.width();
+        blocks.set(level.blocks);
+        grid.set(level.grid);
+        triggers.set(level.triggers);
 
         // 스폰
         player.pos.set(64, 5 * Constants.TILE);
@@ -92,6 +248,135 @@ public class GameWorld {
         player.stopDash();
 
         ensureSafeSpawn();
+        player.prevPos.set(player.pos);
+        save(levelStart);
+        fireLevelLoaded();
+    }
+
+    /**
+     * 월드 상태 사본(맵 블록, 이동 블록 위치, 플레이어, 진행 상태). 한 번 save로 크기가 잡히면
+     * 이후 save/restore는 배열 복사뿐이라 할당이 없다. 재시작, 체크포인트, 오프라인 탐색 도구용.
+     */
+    public static final class Snapshot {
+        final BlockStore blocks = new BlockStore();
+        final BlockGrid grid = new BlockGrid();
+        final TriggerVolumes triggers = new TriggerVolumes();
+        LevelData customLevel;
+        int widthTiles, heightTiles;
+        int point, currentLevel;
+        boolean cleared;
+        boolean fellThisFrame, onSlippery;
+
+        final Vector2 pos = new Vector2(), vel = new Vector2(), prevPos = new Vector2();
+        boolean grounded, dashing;
+        int jumpsLeft, dashDir;
+        float dashRemaining;
+        boolean valid;
+
+        public boolean isValid() { return valid; }
+    }
+
+    /** 지금 상태를 out에 저장한다. 스트리밍 중인 월드는 청크 상태를 담을 수 없어 안 된다. */
+    public Snapshot save(Snapshot out) {
+        if (streamer != null) throw new IllegalStateException("Cannot snapshot a streaming world");
+        out.blocks.set(blocks);
+        out.grid.set(grid);
+        out.triggers.set(triggers);
+        out.customLevel = customLevel;
+        out.widthTiles = widthTiles;
+        out.heightTiles = heightTiles;
+        out.point = state.point;
+        out.currentLevel = state.currentLevel;
+        out.cleared = state.cleared;
+        out.fellThisFrame = fellThisFrame;
+        out.onSlippery = onSlippery;
+
+        out.pos.set(player.pos);
+        out.vel.set(player.vel);
+        out.prevPos.set(player.prevPos);
+        out.grounded = player.grounded;
+        out.jumpsLeft = player.jumpsLeft;
+        out.dashing = player.dashing;
+        out.dashRemaining = player.dashRemaining;
+        out.dashDir = player.dashDir;
+        out.valid = true;
+        return out;
+    }
+
+    /** save로 저장한 상태로 되돌린다. 맵이 통째로 바뀌므로 levelLoaded를 알린다. */
+    public void restore(Snapshot s) {
+        if (!s.valid) throw new IllegalArgumentException("Empty snapshot");
+        // 다른 사본으로 돌아가면 재시작 사본은 더 이상 이 맵의 처음이 아니다
+        boolean start = s == levelStart;
+        stopStreaming();
+        blocks.set(s.blocks);
+        grid.set(s.grid);
+        triggers.set(s.triggers);
+        customLevel = s.customLevel;
+        widthTiles = s.widthTiles;
+        heightTiles = s.heightTiles;
+        state.point = s.point;
+        state.currentLevel = s.currentLevel;
+        state.cleared = s.cleared;
+        fellThisFrame = s.fellThisFrame;
+        onSlippery = s.onSlippery;
+        touchingWallThisFrame = false;
+
+        player.pos.set(s.pos);
+        player.vel.set(s.vel);
+        player.prevPos.set(s.prevPos);
+        player.grounded = s.grounded;
+        player.jumpsLeft = s.jumpsLeft;
+        player.dashing = s.dashing;
+        player.dashRemaining = s.dashRemaining;
+        player.dashDir = s.dashDir;
+        levelStart.valid = start;
+        fireLevelLoaded();
+    }
+
+    void addBlock(int gx, int gy, Block.Type t) {
+        int i = blocks.add(gx, gy, t);
+        if (!blocks.isMoving(i)) grid.set(gx, gy, i);
+        triggers.addBlock(blocks, i);
+    }
+
+    // 질의로 받은 뷰로 제거. 정적 블록은 같은 틱에 다른 블록이 지워져 인덱스가 바뀌었을 수 있어 격자에서 다시 찾는다
+    void removeBlock(Block b) {
+        int i = b.moving ? b.index : grid.get(b.gx, b.gy);
+        if (i < 0 || i >= blocks.size) return;
+        removeAt(i);
+    }
+
+    // 마지막 블록을 빈자리로 옮기는 O(1) 제거. 옮겨진 블록의 격자 인덱스도 갱신
+    void removeAt(int i) {
+        if (blocks.trigger(i) >= 0) triggers.remove(blocks.trigger(i));
+        if (!blocks.isMoving(i)) grid.set(blocks.gx(i), blocks.gy(i), BlockGrid.EMPTY);
+        if (blocks.removeAt(i) >= 0 && !blocks.isMoving(i)) grid.set(blocks.gx(i), blocks.gy(i), i);
+    }
+
+    // 파괴 + 점수. 스트리밍 중이면 다시 로드돼도 돌아오지 않게 기록
+    private void breakBlock(Block b) {
+        removeBlock(b);
+        if (streamer != null) streamer.recordBroken(b.gx, b.gy);
+        state.point += Constants.BREAK_POINT;
+        GameEvents.blockBroken(b.gx, b.gy, player.dashing);
+        for (int i = 0; i < listeners.size; i++) listeners.get(i).blockBroken(this, b);
+    }
+
+    public void addListener(Listener l) {
+        if (!listeners.contains(l, true)) listeners.add(l);
+    }
+
+    public void removeListener(Listener l) {
+        listeners.removeValue(l, true);
+    }
+
+    private void fireLevelLoaded() {
+        for (int i = 0; i < listeners.size; i++) listeners.get(i).levelLoaded(this);
+    }
+
+    void fireColumnsChanged(int x0, int x1) {
+        for (int i = 0; i < listeners.size; i++) listeners.get(i).columnsChanged(this, x0, x1);
     }
 
     // ===== 사용자가 제공한 맵 =====
@@ -141,28 +426,83 @@ public class GameWorld {
     }
     // ==========================
 
+    // ===== 상태 조회 =====
+    public float playerX()    { return player.pos.x; }
+    public float playerY()    { return player.pos.y; }
+    public int points()       { return state.point; }
+    public int level()        { return state.currentLevel; }
+    public boolean isCleared() { return state.cleared; }
+    public boolean isDead()    { return fellThisFrame; }
+
+    // 외부 맵(행 문자열/TMX)이나 스트리밍 맵. 입력 기록(InputRecorder)은 내장 레벨만 다시 재생할 수 있다
+    public boolean isCustomLevel() { return customLevel != null || streamer != null; }
+
+    /** 입력 적용 + 물리 한 틱. 그래픽/입력 장치 없이 돌릴 수 있다. */
+    public void step(float dt, PlayerInput in) {
+        if (state.cleared) return;
+        tickScale = dt * Constants.SIM_HZ;
+        applyInput(in);
+        step(dt);
+    }
+
+    public void applyInput(PlayerInput in) {
+        float ax = 0f;
+
+        if (!player.dashing) {
+            if (in.left)  ax -= Constants.MOVE_SPEED;
+            if (in.right) ax += Constants.MOVE_SPEED;
+            if (ax != 0f) player.vel.x = ax;
+            else {
+                if (onSlippery && player.grounded) {
+                    player.vel.x *= (float) Math.pow(Constants.SLIPPERY_DECAY, tickScale);
+                    if (Math.abs(player.vel.x) < 1f) player.vel.x = 0f;
+                } else {
+                    player.vel.x = 0f;
+                }
+            }
+        }
+
+        if (in.jump && player.jumpsLeft > 0) {
+            player.vel.y = Constants.JUMP_VELOCITY;
+            player.jumpsLeft--;
+        }
+
+        if (in.dash && !player.dashing && state.point >= Constants.DASH_COST) {
+            state.point -= Constants.DASH_COST;
+            int dir = in.right ? 1 : (in.left ? -1 : (player.vel.x < 0 ? -1 : 1));
+            player.startDash(dir);
+        }
+    }
+
+    // 물리만(입력 없이)
     public void step(float dt) {
         if (state.cleared) return;
+        Object event = GameEvents.beginTick();
+        tickScale = dt * Constants.SIM_HZ;
+        tickChecked = 0;
+        tickResolved = 0;
 
         fellThisFrame = false;
         onSlippery = false;
         touchingWallThisFrame = false;
 
-        for (int i = 0; i < blocks.size; i++) {
-            Block b = blocks.get(i);
-            if (b.moving) b.update(dt);
-        }
+        if (streamer != null) streamer.update(player.pos.x);
+
+        player.prevPos.set(player.pos);
+        blocks.updateMoving(dt);
+        triggers.syncMoving(blocks);
 
         // 중력
         player.vel.y += Constants.GRAVITY * dt;
 
         // 예측
-        Rectangle pb = player.getBounds();
+        Rectangle pb = player.getBounds(playerBounds);
+        float startX = pb.x, startY = pb.y;
         float newX = pb.x + player.vel.x * dt;
         float newY = pb.y + player.vel.y * dt;
 
         // X 충돌(옆면 접촉 판정 포함)
-        Rectangle nx = new Rectangle(newX, pb.y, pb.width, pb.height);
+        Rectangle nx = moveX.set(newX, pb.y, pb.width, pb.height);
         float movedX = resolveX(nx);
         if (player.dashing) {
             player.dashRemaining -= Math.abs(movedX);
@@ -171,11 +511,11 @@ public class GameWorld {
         }
 
         // Y 충돌
-        Rectangle ny = new Rectangle(nx.x, newY, nx.width, nx.height);
+        Rectangle ny = moveY.set(nx.x, newY, nx.width, nx.height);
         resolveY(ny, player.vel.y > 0);
 
         player.pos.set(ny.x, ny.y);
-        player.grounded = isStandingOnBlock(player.getBounds());
+        player.grounded = isStandingOnBlock(player.getBounds(playerBounds));
         if (player.grounded) {
             player.jumpsLeft = Constants.MAX_JUMPS;
         }
@@ -184,97 +524,141 @@ public class GameWorld {
             player.vel.y = WALL_SLIDE_MAX_FALL_SPEED;
         }
 
-        checkTriggers(player.getBounds());
+        // 트리거는 이번 틱에 지나간 길 전체로: 가로 이동(처음 높이) 뒤 세로 이동(운반 포함 새 x).
+        // 낮은 틱 레이트나 대시로 한 틱에 트리거보다 멀리 가도 독/골을 건너뛰지 않는다
+        float w = pb.width, h = pb.height;
+        Rectangle sx = sweepX.set(Math.min(startX, nx.x), startY, Math.abs(nx.x - startX) + w, h);
+        float x0 = Math.min(nx.x, ny.x);
+        Rectangle sy = sweepY.set(x0, Math.min(startY, ny.y), Math.max(nx.x, ny.x) - x0 + w, Math.abs(ny.y - startY) + h);
+        checkTriggers(sx, sy);
 
         if (player.pos.y < -128f) {
             fellThisFrame = true;
+            GameEvents.playerDeath("fall", state.currentLevel, player.pos.x, player.pos.y);
         }
+        GameEvents.endTick(event, tickChecked, tickResolved);
     }
 
-    public void draw(SpriteBatch batch) {
-        for (int i = 0; i < blocks.size; i++) {
-            blocks.get(i).draw(batch);
-        }
-    }
-
-    private float resolveX(Rectangle r) {
+    // X 충돌: 시작 위치에서 r.x까지 쓸어 가며(swept AABB) 진행 방향으로 가장 먼저 닿는 벽에서 멈춘다.
+    // 틱이 길어 한 번에 한 칸 넘게 움직여도 얇은 벽이나 부서지는 블록을 건너뛰지 않는다
+    float resolveX(Rectangle r) {
         float before = player.pos.x;
-        for (int i = blocks.size-1; i >= 0; i--) {
-            Block b = blocks.get(i);
-            Rectangle br = b.getBounds();
-            if (!r.overlaps(br)) continue;
-
+        float minX = Math.min(before, r.x);
+        grid.query(minX, r.y, Math.max(before, r.x) - minX + r.width, r.height, blocks, nearby);
+        tickChecked += nearby.size;
+
+        boolean dashing = player.dashing;
+        boolean hit = false;
+        float stop = r.x;
+        for (int i = 0; i < nearby.size; i++) {
+            Block b = nearby.get(i);
             if (isTriggerBlock(b.type)) continue;
+            if (dashing && b.type == Block.Type.BREAKABLE) continue;
+            if (!sweptX(b, before, r.x, r)) continue;
 
-            // 대시 중 파괴
-            if (player.dashing && b.type == Block.Type.BREAKABLE) {
-                blocks.removeIndex(i);
-                state.point += Constants.BREAK_POINT;
-                continue;
-            }
-
-            if (player.vel.x > 0) r.x = br.x - r.width - 0.01f;
-            else if (player.vel.x < 0) r.x = br.x + br.width + 0.01f;
+            if (player.vel.x > 0) stop = Math.min(stop, b.px - r.width - 0.01f);
+            else if (player.vel.x < 0) stop = Math.max(stop, b.px + Constants.TILE + 0.01f);
+            hit = true;
+        }
+        if (hit) {
+            r.x = stop;
             player.vel.x = 0;
             touchingWallThisFrame = true;
+            tickResolved++;
+        }
+
+        // 대시 중 파괴: 실제로 지나간 구간의 부서지는 블록은 전부
+        if (dashing) {
+            for (int i = 0; i < nearby.size; i++) {
+                Block b = nearby.get(i);
+                if (b.type == Block.Type.BREAKABLE && sweptX(b, before, r.x, r)) breakBlock(b);
+            }
         }
         return r.x - before;
     }
 
-    // Y 충돌: 트리거(POISON/GOAL)는 통과
-    private void resolveY(Rectangle r, boolean movingUp) {
-        for (int i = blocks.size-1; i >= 0; i--) {
-            Block b = blocks.get(i);
-            Rectangle br = b.getBounds();
-            if (!r.overlaps(br)) continue;
+    // from -> to로 X 이동하는 r(높이 범위는 r.y)이 b와 닿는지: 끝 위치에서 겹치거나, 처음엔 앞에 있었는데 지나쳤거나
+    private static boolean sweptX(Block b, float from, float to, Rectangle r) {
+        if (r.y >= b.py + Constants.TILE || r.y + r.height <= b.py) return false;
+        if (to < b.px + Constants.TILE && to + r.width > b.px) return true;
+        if (to > from) return b.px >= from + r.width && b.px < to + r.width;
+        if (to < from) return b.px + Constants.TILE <= from && b.px + Constants.TILE > to;
+        return false;
+    }
 
+    // Y 충돌: 트리거(POISON/GOAL)는 통과. X와 같은 방식으로 쓸어서 가장 먼저 닿는 블록 하나에 멈춘다
+    void resolveY(Rectangle r, boolean movingUp) {
+        // 운반(carry)으로 r.x가 조금 움직일 수 있어 좌우 한 칸 여유
+        float before = player.pos.y;
+        float minY = Math.min(before, r.y);
+        grid.query(r.x - Constants.TILE, minY, r.width + 2 * Constants.TILE,
+            Math.max(before, r.y) - minY + r.height, blocks, nearby);
+        tickChecked += nearby.size;
+
+        int first = -1;
+        float best = 0f;
+        for (int i = 0; i < nearby.size; i++) {
+            Block b = nearby.get(i);
             if (isTriggerBlock(b.type)) continue;
+            if (!sweptY(b, before, r.y, r)) continue;
 
-            if (movingUp && r.y + r.height > br.y && player.vel.y > 0) {
-                if (b.type == Block.Type.BREAKABLE) {
-                    blocks.removeIndex(i);
-                    state.point += Constants.BREAK_POINT;
-                }
-                r.y = br.y - r.height - 0.01f;
-                player.vel.y = 0;
-            } else {
-                if (player.vel.y < 0) {
-                    r.y = br.y + br.height + 0.01f;
-                    player.vel.y = 0;
-                    if (b.type == Block.Type.SLIPPERY) onSlippery = true;
-                    if (b.moving) r.x += b.vx * Constants.MOVING_CARRY_RATIO;
-                } else if (player.vel.y > 0) {
-                    r.y = br.y - r.height - 0.01f;
-                    player.vel.y = 0;
-                }
+            // 올라갈 땐 가장 낮은 바닥면, 떨어질 땐 가장 높은 윗면(같으면 먼저 찾은 것)
+            float edge = movingUp ? b.py : b.py + Constants.TILE;
+            if (first < 0 || (movingUp ? edge < best : edge > best)) {
+                first = i;
+                best = edge;
             }
         }
+        if (first < 0) return;
+
+        Block b = nearby.get(first);
+        if (player.vel.y != 0) tickResolved++;
+        if (movingUp && player.vel.y > 0) {
+            if (b.type == Block.Type.BREAKABLE) breakBlock(b);
+            r.y = b.py - r.height - 0.01f;
+            player.vel.y = 0;
+        } else if (player.vel.y < 0) {
+            r.y = b.py + Constants.TILE + 0.01f;
+            player.vel.y = 0;
+            if (b.type == Block.Type.SLIPPERY) onSlippery = true;
+            if (b.moving) r.x += b.vx * Constants.MOVING_CARRY_RATIO * tickScale;
+        } else if (player.vel.y > 0) {
+            r.y = b.py - r.height - 0.01f;
+            player.vel.y = 0;
+        }
     }
 
-    private boolean isStandingOnBlock(Rectangle r) {
-        Rectangle below = new Rectangle(r.x, r.y - 2, r.width, r.height);
-        for (Block b : blocks) {
+    // sweptX의 Y 버전(가로 범위는 r.x)
+    private static boolean sweptY(Block b, float from, float to, Rectangle r) {
+        if (r.x >= b.px + Constants.TILE || r.x + r.width <= b.px) return false;
+        if (to < b.py + Constants.TILE && to + r.height > b.py) return true;
+        if (to > from) return b.py >= from + r.height && b.py < to + r.height;
+        if (to < from) return b.py + Constants.TILE <= from && b.py + Constants.TILE > to;
+        return false;
+    }
+
+    boolean isStandingOnBlock(Rectangle r) {
+        Rectangle below = probe.set(r.x, r.y - 2, r.width, r.height);
+        grid.query(below.x, below.y, below.width, below.height, blocks, nearby);
+        tickChecked += nearby.size;
+        for (int i = 0; i < nearby.size; i++) {
+            Block b = nearby.get(i);
             if (isTriggerBlock(b.type)) continue;
-            if (below.overlaps(b.getBounds())) return true;
+            if (b.overlaps(below)) return true;
         }
         return false;
     }
 
-    private void checkTriggers(Rectangle r) {
-        boolean hitPoison = false;
-        boolean hitGoal   = false;
+    // 근처 트리거만 검사하고 enter/stay/exit를 알린다(sweepX 또는 sweepY와 겹치면). 독이 골보다 먼저
+    void checkTriggers(Rectangle sweepX, Rectangle sweepY) {
+        hitKill = false;
+        hitGoal = false;
+        tickChecked += triggers.update(sweepX, sweepY);
 
-        for (int i = 0; i < blocks.size; i++) {
-            Block b = blocks.get(i);
-            if (!r.overlaps(b.getBounds())) continue;
-
-            if (b.type == Block.Type.POISON || b.type == Block.Type.POISON_MOVING) hitPoison = true;
-            else if (b.type == Block.Type.GOAL) hitGoal = true;
-        }
-
-        if (hitPoison) {
+        if (hitKill) {
             // 흔들림 → Main이 타이머 종료 시 restartLevel(true) 호출
             fellThisFrame = true;
+            GameEvents.playerDeath("poison", state.currentLevel, player.pos.x, player.pos.y);
             return;
         }
         if (hitGoal) {
@@ -282,13 +666,14 @@ public class GameWorld {
         }
     }
 
+    // 트리거 블록은 막지 않는다(TriggerVolumes가 처리)
     private boolean isTriggerBlock(Block.Type t) {
-        return t == Block.Type.GOAL || t == Block.Type.POISON || t == Block.Type.POISON_MOVING;
+        return TriggerVolumes.kindOf(t) != null;
     }
 
     // 스폰 시 트리거와 겹치면 주변 안전 타일로 이동
     private void ensureSafeSpawn() {
-        Rectangle pr = player.getBounds();
+        Rectangle pr = player.getBounds(probe);
 
         for (int k = 0; k < 12; k++) {
             if (!overlapsAnyTrigger(pr)) return;
@@ -310,11 +695,6 @@ public class GameWorld {
     }
 
     private boolean overlapsAnyTrigger(Rectangle rr) {
-        for (int i = 0; i < blocks.size; i++) {
-            Block b = blocks.get(i);
-            if (!isTriggerBlock(b.type)) continue;
-            if (rr.overlaps(b.getBounds())) return true;
-        }
-        return false;
+        return triggers.overlapsAny(rr);
     }
 }
@@ -0,0 +1,256 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * 애니메이션 GIF를 프레임 한 장짜리 스프라이트 시트 텍스처로 만든다.
+ *
+ * 디코딩(ImageIO)은 prefetch() 때 백그라운드 스레드에서 하고, 결과 RGBA를 원본 해시로 디스크에 저장해서
+ * 다음 실행부터는 파일만 읽는다. 텍스처 업로드는 처음 frame()이 불릴 때 GL 스레드에서 한 번.
+ *
+ * 캐시 형식: "GVG1" | frames | cols | cellW | cellH | [frameW frameH]... | RGBA(sheetW * sheetH * 4)
+ */
+public class GifSheet implements Disposable {
+    private static final int MAGIC = ('G' << 24) | ('V' << 16) | ('G' << 8) | '1';
+    private static final int MAX_SHEET_SIZE = 4096;
+
+    /** 시트 픽셀(Pixmap RGBA8888 바이트 순서)과 프레임 배치. */
+    public static final class Sheet {
+        public int frames, cols, cellW, cellH;
+        public int[] frameW, frameH;
+        public byte[] rgba;
+
+        public int width()  { return cols * cellW; }
+        public int height() { return ((frames + cols - 1) / cols) * cellH; }
+    }
+
+    private final FileHandle file;
+    private final File cacheDir;
+
+    private Thread decoder;
+    private volatile Sheet sheet;
+    private volatile boolean failed;
+
+    private Texture texture;
+    private TextureRegion[] regions;
+
+    public GifSheet(FileHandle file, File cacheDir) {
+        this.file = file;
+        this.cacheDir = cacheDir;
+    }
+
+    /** 백그라운드 디코딩 시작(여러 번 불러도 한 번만). */
+    public void prefetch() {
+        if (decoder != null) return;
+        decoder = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Object event = GameEvents.beginGif();
+                    Sheet s = load(file.readBytes(), file.nameWithoutExtension(), cacheDir);
+                    GameEvents.endGif(event, file.name(), s.frames, s.rgba.length);
+                    sheet = s;
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    failed = true;
+                }
+            }
+        }, "gif-decoder");
+        decoder.setDaemon(true);
+        decoder.start();
+    }
+
+    public boolean isReady() {
+        return sheet != null || texture != null;
+    }
+
+    /** elapsed초 시점의 프레임. 아직 디코딩 중이거나 실패했으면 null. GL 스레드에서 호출. */
+    public TextureRegion frame(float elapsed, float frameDuration) {
+        prefetch();
+        if (texture == null) {
+            if (failed || sheet == null) return null;
+            upload(sheet);
+            sheet = null;   // 업로드 후 CPU 쪽 픽셀은 버린다
+        }
+        int idx = (int) (elapsed / frameDuration) % regions.length;
+        return regions[idx];
+    }
+
+    // Pixmap 버퍼에 통째로 복사(픽셀마다 drawPixel 하지 않음)
+    private void upload(Sheet s) {
+        Pixmap px = new Pixmap(s.width(), s.height(), Pixmap.Format.RGBA8888);
+        ByteBuffer buf = px.getPixels();
+        buf.clear();
+        buf.put(s.rgba, 0, Math.min(s.rgba.length, buf.remaining()));
+        buf.position(0);
+        texture = new Texture(px);
+        px.dispose();
+
+        regions = new TextureRegion[s.frames];
+        for (int i = 0; i < s.frames; i++) {
+            int x = (i % s.cols) * s.cellW;
+            int y = (i / s.cols) * s.cellH;
+            regions[i] = new TextureRegion(texture, x, y, s.frameW[i], s.frameH[i]);
+        }
+    }
+
+    static Sheet load(byte[] gif, String name, File dir) throws IOException {
+        File cached = dir == null ? null : new File(dir, name + "-" + LevelCache.hash(gif) + ".sheet");
+        if (cached != null && cached.isFile()) {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(cached))) {
+                return read(in);
+            } catch (IOException e) {
+                // 깨진 캐시는 아래에서 다시 만든다
+            }
+        }
+
+        Sheet s = decode(gif);
+        if (cached != null && !fits(s)) {
+            // read()가 받아 주지 않으므로 써 봐야 매번 다시 디코딩한다
+            System.err.println(name + ": " + s.width() + "x" + s.height() + " sheet exceeds " + MAX_SHEET_SIZE + ", not cached");
+        } else if (cached != null) {
+            try {
+                if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Cannot create " + dir);
+                File tmp = new File(dir, cached.getName() + ".tmp");
+                try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp))) {
+                    write(out, s);
+                }
+                if (!tmp.renameTo(cached)) {
+                    cached.delete();
+                    tmp.renameTo(cached);
+                }
+            } catch (IOException e) {
+                // 캐시는 없어도 동작한다
+                e.printStackTrace();
+            }
+        }
+        return s;
+    }
+
+    public static Sheet decode(byte[] gif) throws IOException {
+        ImageInputStream iis = new MemoryCacheImageInputStream(new ByteArrayInputStream(gif));
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+        if (!readers.hasNext()) throw new IOException("No GIF reader");
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(iis, false);
+            int n = reader.getNumImages(true);
+            if (n <= 0) throw new IOException("Empty GIF");
+            BufferedImage[] images = new BufferedImage[n];
+            Sheet s = new Sheet();
+            s.frames = n;
+            s.frameW = new int[n];
+            s.frameH = new int[n];
+            for (int i = 0; i < n; i++) {
+                images[i] = reader.read(i);
+                s.frameW[i] = images[i].getWidth();
+                s.frameH[i] = images[i].getHeight();
+                s.cellW = Math.max(s.cellW, s.frameW[i]);
+                s.cellH = Math.max(s.cellH, s.frameH[i]);
+            }
+            // 정사각형에 가깝게, 단 높이가 한도를 넘으면 폭 한도 안에서 열을 늘린다
+            int maxCols = Math.max(1, MAX_SHEET_SIZE / Math.max(1, s.cellW));
+            int maxRows = Math.max(1, MAX_SHEET_SIZE / Math.max(1, s.cellH));
+            int cols = Math.max((int) Math.ceil(Math.sqrt(n)), (n + maxRows - 1) / maxRows);
+            s.cols = Math.max(1, Math.min(cols, maxCols));
+            s.rgba = new byte[s.width() * s.height() * 4];
+
+            int sheetW = s.width();
+            int[] row = new int[s.cellW];
+            for (int i = 0; i < n; i++) {
+                BufferedImage img = images[i];
+                int w = s.frameW[i], h = s.frameH[i];
+                int x0 = (i % s.cols) * s.cellW;
+                int y0 = (i / s.cols) * s.cellH;
+                for (int y = 0; y < h; y++) {
+                    img.getRGB(0, y, w, 1, row, 0, w);
+                    // 예전 drawPixel(x, h-1-y) 변환과 같게 세로로 뒤집어 넣는다
+                    int o = ((y0 + h - 1 - y) * sheetW + x0) * 4;
+                    for (int x = 0; x < w; x++) {
+                        int p = row[x];
+                        s.rgba[o++] = (byte) (p >> 16);
+                        s.rgba[o++] = (byte) (p >> 8);
+                        s.rgba[o++] = (byte) p;
+                        s.rgba[o++] = (byte) (p >>> 24);
+                    }
+                }
+            }
+            return s;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    public static void write(OutputStream os, Sheet s) throws IOException {
+        DataOutputStream out = new DataOutputStream(os);
+        out.writeInt(MAGIC);
+        out.writeInt(s.frames);
+        out.writeInt(s.cols);
+        out.writeInt(s.cellW);
+        out.writeInt(s.cellH);
+        for (int i = 0; i < s.frames; i++) {
+            out.writeInt(s.frameW[i]);
+            out.writeInt(s.frameH[i]);
+        }
+        out.write(s.rgba);
+        out.flush();
+    }
+
+    public static Sheet read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(is);
+        if (in.readInt() != MAGIC) throw new IOException("Not a sheet cache file");
+        Sheet s = new Sheet();
+        s.frames = in.readInt();
+        s.cols = in.readInt();
+        s.cellW = in.readInt();
+        s.cellH = in.readInt();
+        if (s.frames <= 0 || s.cols <= 0 || s.cellW <= 0 || s.cellH <= 0 || !fits(s)) {
+            throw new IOException("Bad sheet size");
+        }
+        s.frameW = new int[s.frames];
+        s.frameH = new int[s.frames];
+        for (int i = 0; i < s.frames; i++) {
+            s.frameW[i] = in.readInt();
+            s.frameH[i] = in.readInt();
+            if (s.frameW[i] > s.cellW || s.frameH[i] > s.cellH) throw new IOException("Corrupt sheet cache");
+        }
+        s.rgba = new byte[s.width() * s.height() * 4];
+        in.readFully(s.rgba);
+        return s;
+    }
+
+    // 캐시에 쓰고 읽을 수 있는 크기인지
+    private static boolean fits(Sheet s) {
+        return s.width() <= MAX_SHEET_SIZE && s.height() <= MAX_SHEET_SIZE;
+    }
+
+    @Override
+    public void dispose() {
+        if (texture != null) texture.dispose();
+        texture = null;
+        regions = null;
+    }
+}
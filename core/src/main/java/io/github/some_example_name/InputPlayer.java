@@ -0,0 +1,99 @@
+package io.github.some_example_name;
+
+/** InputRecorder 기록을 GameWorld에 다시 먹여서 같은 플레이를 재현한다. */
+public class InputPlayer implements InputSource {
+    private final byte[] data;
+    private final int bodyStart, bodyEnd;
+
+    public final int startLevel;
+    public final int tickRate;
+    public final long tickCount;
+
+    private int cursor;
+    private int runFlags;
+    private long runLeft;
+
+    public InputPlayer(byte[] data) {
+        this.data = data;
+        for (int i = 0; i < InputRecorder.MAGIC.length; i++) {
+            if (data.length <= i || data[i] != InputRecorder.MAGIC[i]) {
+                throw new IllegalArgumentException("Not an input recording");
+            }
+        }
+        cursor = InputRecorder.MAGIC.length;
+        startLevel = (int) readVarLong();
+        tickRate   = (int) readVarLong();
+        tickCount  = readVarLong();
+        int length = (int) readVarLong();
+        bodyStart = cursor;
+        bodyEnd = bodyStart + length;
+        if (bodyEnd > data.length) throw new IllegalArgumentException("Truncated input recording");
+        rewind();
+    }
+
+    public void rewind() {
+        cursor = bodyStart;
+        runLeft = 0;
+    }
+
+    public float stepSeconds() {
+        return 1f / tickRate;
+    }
+
+    /** 처음으로 되감고 기록된 시작 레벨을 로드한다. */
+    @Override
+    public void begin(GameWorld world) {
+        rewind();
+        world.loadLevel(startLevel);
+        world.state.point = 0;
+    }
+
+    /** 다음 틱 입력을 out에 채운다. 그 전에 기록된 재시작/레벨 로드는 world에 바로 적용. 끝이면 false. */
+    @Override
+    public boolean next(GameWorld world, PlayerInput out) {
+        while (runLeft == 0) {
+            if (cursor >= bodyEnd) return false;
+            int b = data[cursor++] & 0xff;
+            if ((b & InputRecorder.EVENT) != 0) {
+                int payload = b & 0x7f;
+                if (payload == InputRecorder.EVENT_RESTART) world.restartLevel(true);
+                else world.loadLevel(payload);
+                continue;
+            }
+            runFlags = b;
+            runLeft = readVarLong();
+        }
+        runLeft--;
+        out.left  = (runFlags & InputRecorder.LEFT)  != 0;
+        out.right = (runFlags & InputRecorder.RIGHT) != 0;
+        out.jump  = (runFlags & InputRecorder.JUMP)  != 0;
+        out.dash  = (runFlags & InputRecorder.DASH)  != 0;
+        return true;
+    }
+
+    /** 처음부터 끝까지 헤드리스로 재생. Main과 같이 죽으면 재시작한다. 진행한 틱 수를 돌려준다. */
+    public long run(GameWorld world) {
+        begin(world);
+        PlayerInput in = new PlayerInput();
+        float dt = stepSeconds();
+        long ticks = 0;
+        while (!world.state.cleared && next(world, in)) {
+            world.step(dt, in);
+            ticks++;
+            if (world.fellThisFrame) world.restartLevel(true);
+        }
+        return ticks;
+    }
+
+    private long readVarLong() {
+        long v = 0;
+        int shift = 0;
+        while (true) {
+            if (cursor >= data.length) throw new IllegalArgumentException("Truncated input recording");
+            int b = data[cursor++] & 0xff;
+            v |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return v;
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.some_example_name;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 틱마다 소비된 PlayerInput을 압축 바이너리로 기록한다.
+ *
+ * 형식: "GVR1" | 시작 레벨 | 틱 레이트 | 총 틱 수 | 본문 길이 | 본문 (숫자는 모두 varint)
+ * 본문: [플래그 1바이트][반복 틱 수 varint] 의 연속(같은 입력은 한 번에 묶음).
+ * 플래그 최상위 비트가 켜져 있으면 이벤트(재시작/레벨 로드)이며 다음 틱 전에 적용한다.
+ */
+public class InputRecorder {
+    static final byte[] MAGIC = { 'G', 'V', 'R', '1' };
+
+    public static final int LEFT  = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int JUMP  = 1 << 2;
+    public static final int DASH  = 1 << 3;
+
+    static final int EVENT = 0x80;        // 하위 7비트: 0 = 재시작, n = n레벨 로드
+    static final int EVENT_RESTART = 0;
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+    private int startLevel = 1;
+    private int tickRate = Constants.SIM_HZ;
+    private long ticks;
+
+    private int runFlags = -1;
+    private long runLength;
+
+    public void begin(int level, int tickRate) {
+        body.reset();
+        this.startLevel = level;
+        this.tickRate = tickRate;
+        ticks = 0;
+        runFlags = -1;
+        runLength = 0;
+    }
+
+    public static int flagsOf(PlayerInput in) {
+        int f = 0;
+        if (in.left)  f |= LEFT;
+        if (in.right) f |= RIGHT;
+        if (in.jump)  f |= JUMP;
+        if (in.dash)  f |= DASH;
+        return f;
+    }
+
+    public void record(PlayerInput in) {
+        int f = flagsOf(in);
+        if (f != runFlags) {
+            flushRun();
+            runFlags = f;
+        }
+        runLength++;
+        ticks++;
+    }
+
+    // 플레이어가 R로 재시작(죽음 후 재시작은 재생 쪽에서 자동 처리)
+    public void markRestart() {
+        event(EVENT_RESTART);
+    }
+
+    public void markLevelLoad(int level) {
+        event(level);
+    }
+
+    public long ticks() { return ticks; }
+
+    private void event(int payload) {
+        flushRun();
+        body.write(EVENT | (payload & 0x7f));
+    }
+
+    private void flushRun() {
+        if (runLength > 0) {
+            body.write(runFlags);
+            writeVarLong(body, runLength);
+        }
+        runFlags = -1;
+        runLength = 0;
+    }
+
+    /** 지금까지의 기록을 직렬화한다. 이후에도 계속 기록할 수 있다. */
+    public byte[] toBytes() {
+        // 아직 닫히지 않은 묶음은 본문을 건드리지 않고 뒤에 붙인다
+        ByteArrayOutputStream pending = new ByteArrayOutputStream(16);
+        if (runLength > 0) {
+            pending.write(runFlags);
+            writeVarLong(pending, runLength);
+        }
+        byte[] head = body.toByteArray();
+        byte[] tail = pending.toByteArray();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(head.length + tail.length + 32);
+        out.write(MAGIC, 0, MAGIC.length);
+        writeVarLong(out, startLevel);
+        writeVarLong(out, tickRate);
+        writeVarLong(out, ticks);
+        writeVarLong(out, head.length + tail.length);
+        out.write(head, 0, head.length);
+        out.write(tail, 0, tail.length);
+        return out.toByteArray();
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.some_example_name;
+
+/** 틱마다 PlayerInput을 채워 주는 입력원(녹화 재생, 스크립트, AI 등). 월드 하나에 하나씩 쓴다. */
+public interface InputSource {
+    // 실행 시작 전에 한 번. 시작 레벨 로드 등
+    void begin(GameWorld world);
+
+    // 다음 틱 입력을 out에 채운다. 더 없으면 false
+    boolean next(GameWorld world, PlayerInput out);
+}
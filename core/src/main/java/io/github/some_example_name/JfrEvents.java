@@ -0,0 +1,217 @@
+package io.github.some_example_name;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+import java.nio.file.Paths;
+
+/**
+ * JFR 이벤트 정의와 기록 시작/중지. jdk.jfr을 직접 참조하는 건 이 클래스뿐이고
+ * GameEvents가 JFR이 있을 때만 부른다(없는 JVM에서 게임 코드가 링크 오류를 내지 않게).
+ */
+final class JfrEvents {
+    private JfrEvents() {}
+
+    // 실행 중인 기록이 하나라도 있는지. 없으면 이벤트 객체도 만들지 않는다
+    static volatile boolean recording;
+
+    private static Recording session;
+
+    static boolean init() {
+        if (!FlightRecorder.isAvailable()) return false;
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording r) {
+                updateRecording();
+            }
+        });
+        // -XX:StartFlightRecording으로 이미 시작된 기록
+        if (FlightRecorder.isInitialized()) updateRecording();
+        return true;
+    }
+
+    private static void updateRecording() {
+        boolean running = false;
+        for (Recording r : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if (r.getState() == RecordingState.RUNNING) running = true;
+        }
+        recording = running;
+    }
+
+    /** default 설정 + 게임 이벤트로 기록 시작. 중지하거나 JVM이 끝나면 file에 쓴다. */
+    static synchronized void start(String file) throws Exception {
+        if (session != null) return;
+        Recording r = new Recording(Configuration.getConfiguration("default"));
+        r.setName("game");
+        r.setToDisk(true);
+        r.setDestination(Paths.get(file));
+        r.setDumpOnExit(true);
+        r.start();
+        session = r;
+    }
+
+    static synchronized void stop() {
+        if (session == null) return;
+        session.stop();
+        session.close();
+        session = null;
+    }
+
+    // ===== 이벤트 =====
+
+    @Name("game.Tick")
+    @Label("World Tick")
+    @Category({"Game", "World"})
+    @Description("GameWorld.step 한 틱")
+    @StackTrace(false)
+    static final class Tick extends Event {
+        @Label("Blocks Checked")
+        int blocksChecked;
+        @Label("Collisions Resolved")
+        int collisionsResolved;
+    }
+
+    @Name("game.LevelLoad")
+    @Label("Level Load")
+    @Category({"Game", "World"})
+    static final class LevelLoad extends Event {
+        @Label("Kind")
+        String kind;
+        @Label("Level")
+        int level;
+        @Label("Blocks")
+        int blocks;
+        @Label("Moving Blocks")
+        int movingBlocks;
+    }
+
+    @Name("game.PlayerDeath")
+    @Label("Player Death")
+    @Category({"Game", "World"})
+    @StackTrace(false)
+    static final class PlayerDeath extends Event {
+        @Label("Cause")
+        String cause;
+        @Label("Level")
+        int level;
+        @Label("X")
+        float x;
+        @Label("Y")
+        float y;
+    }
+
+    @Name("game.BlockBroken")
+    @Label("Block Broken")
+    @Category({"Game", "World"})
+    @StackTrace(false)
+    static final class BlockBroken extends Event {
+        @Label("Tile X")
+        int gx;
+        @Label("Tile Y")
+        int gy;
+        @Label("Dash")
+        boolean dash;
+    }
+
+    @Name("game.AssetsLoad")
+    @Label("Assets Load")
+    @Category({"Game", "Assets"})
+    @Description("Assets.queue부터 Assets.finish까지(AssetManager 비동기 로딩)")
+    static final class AssetsLoad extends Event {
+        @Label("Files")
+        int files;
+        @Label("Packed Atlas")
+        boolean packed;
+    }
+
+    @Name("game.GifLoad")
+    @Label("GIF Load")
+    @Category({"Game", "Assets"})
+    @Description("GifSheet 디코딩(또는 디스크 캐시 읽기)")
+    static final class GifLoad extends Event {
+        @Label("File")
+        String file;
+        @Label("Frames")
+        int frames;
+        @Label("Bytes")
+        int bytes;
+    }
+
+    // 기간 이벤트는 begin에서 객체를 만들어 돌려주고(꺼져 있으면 null) end에서 채워 commit
+
+    static Object begin(Event e) {
+        if (!e.isEnabled()) return null;
+        e.begin();
+        return e;
+    }
+
+    static Object beginTick()      { return recording ? begin(new Tick()) : null; }
+    static Object beginLevelLoad() { return recording ? begin(new LevelLoad()) : null; }
+    static Object beginAssets()    { return recording ? begin(new AssetsLoad()) : null; }
+    static Object beginGif()       { return recording ? begin(new GifLoad()) : null; }
+
+    static void endTick(Object o, int checked, int resolved) {
+        Tick e = (Tick) o;
+        e.end();
+        if (!e.shouldCommit()) return;
+        e.blocksChecked = checked;
+        e.collisionsResolved = resolved;
+        e.commit();
+    }
+
+    static void endLevelLoad(Object o, String kind, int level, int blocks, int moving) {
+        LevelLoad e = (LevelLoad) o;
+        e.end();
+        if (!e.shouldCommit()) return;
+        e.kind = kind;
+        e.level = level;
+        e.blocks = blocks;
+        e.movingBlocks = moving;
+        e.commit();
+    }
+
+    static void endAssets(Object o, int files, boolean packed) {
+        AssetsLoad e = (AssetsLoad) o;
+        e.files = files;
+        e.packed = packed;
+        e.commit();
+    }
+
+    static void endGif(Object o, String file, int frames, int bytes) {
+        GifLoad e = (GifLoad) o;
+        e.file = file;
+        e.frames = frames;
+        e.bytes = bytes;
+        e.commit();
+    }
+
+    static void playerDeath(String cause, int level, float x, float y) {
+        if (!recording) return;
+        PlayerDeath e = new PlayerDeath();
+        if (!e.isEnabled()) return;
+        e.cause = cause;
+        e.level = level;
+        e.x = x;
+        e.y = y;
+        e.commit();
+    }
+
+    static void blockBroken(int gx, int gy, boolean dash) {
+        if (!recording) return;
+        BlockBroken e = new BlockBroken();
+        if (!e.isEnabled()) return;
+        e.gx = gx;
+        e.gy = gy;
+        e.dash = dash;
+        e.commit();
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.some_example_name;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * TMX 파싱 결과(LevelData)를 원본 파일 해시와 변환 규칙 버전(TmxLevelLoader.VERSION)으로 키를 잡아 바이너리로 저장한다.
+ * 같은 TMX면 다음 실행부터 XML 파싱과 inflate 없이 캐시 파일만 읽는다. 변환 규칙이 바뀌면 다시 만든다.
+ *
+ * 파일 형식: "GVL1" | version(int) | width(int) | height(int) | [code(byte) run(ushort)]... (run 길이 인코딩)
+ */
+public class LevelCache {
+    private static final int MAGIC = ('G' << 24) | ('V' << 16) | ('L' << 8) | '1';
+    private static final int MAX_RUN = 0xFFFF;
+
+    private final File dir;
+
+    public LevelCache(File dir) {
+        this.dir = dir;
+    }
+
+    /** name은 캐시 파일 이름 접두어(보통 맵 파일 이름), tmx는 원본 파일 내용. */
+    public LevelData loadTmx(String name, byte[] tmx) throws IOException {
+        File cached = new File(dir, name + "-" + hash(tmx) + "-v" + TmxLevelLoader.VERSION + ".lvl");
+        if (cached.isFile()) {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(cached))) {
+                return read(in);
+            } catch (IOException e) {
+                // 깨진 캐시는 아래에서 다시 만든다
+            }
+        }
+
+        LevelData level = TmxLevelLoader.load(new ByteArrayInputStream(tmx));
+        try {
+            if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Cannot create " + dir);
+            File tmp = new File(dir, cached.getName() + ".tmp");
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp))) {
+                write(out, level);
+            }
+            if (!tmp.renameTo(cached)) {
+                cached.delete();
+                tmp.renameTo(cached);
+            }
+        } catch (IOException e) {
+            // 캐시는 없어도 동작한다(읽기 전용 디스크 등)
+            e.printStackTrace();
+        }
+        return level;
+    }
+
+    public static void write(OutputStream os, LevelData level) throws IOException {
+        DataOutputStream out = new DataOutputStream(os);
+        out.writeInt(MAGIC);
+        out.writeInt(TmxLevelLoader.VERSION);
+        out.writeInt(level.width);
+        out.writeInt(level.height);
+
+        byte[] tiles = level.rawTiles();
+        int i = 0;
+        while (i < tiles.length) {
+            byte code = tiles[i];
+            int run = 1;
+            while (i + run < tiles.length && tiles[i + run] == code && run < MAX_RUN) run++;
+            out.writeByte(code);
+            out.writeShort(run);
+            i += run;
+        }
+        out.flush();
+    }
+
+    public static LevelData read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(is);
+        if (in.readInt() != MAGIC) throw new IOException("Not a level cache file");
+        if (in.readInt() != TmxLevelLoader.VERSION) throw new IOException("Stale level cache");
+        int width = in.readInt();
+        int height = in.readInt();
+        if (width < 0 || height < 0 || (long) width * height > Integer.MAX_VALUE) throw new IOException("Bad level size");
+
+        byte[] tiles = new byte[width * height];
+        int i = 0;
+        while (i < tiles.length) {
+            byte code = in.readByte();
+            int run = in.readUnsignedShort();
+            if (run == 0 || i + run > tiles.length || code < 0 || code > Block.Type.values().length) {
+                throw new IOException("Corrupt level cache");
+            }
+            for (int k = 0; k < run; k++) tiles[i++] = code;
+        }
+        return new LevelData(width, height, tiles);
+    }
+
+    static String hash(byte[] data) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder sb = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) sb.append(String.format("%02x", d[i] & 0xff));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package io.github.some_example_name;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 오프라인 레벨 검사기. 실제 GameWorld 물리로 상태 공간을 넓이 우선 탐색해서
+ * GOAL에 닿을 수 있는지, 최소 대시 횟수, 그대로 재생하면 골에 닿는 입력 기록(InputRecorder 형식)을 구한다.
+ *
+ * 입력은 MACRO_TICKS틱 단위 묶음(좌/우 유지 + 첫 틱의 점프/대시). 상태는 위치/속도 버킷, 남은 점프,
+ * 포인트, 대시 상태로 합친다. 부서진 블록 집합은 키에 넣지 않는다(부술 때마다 포인트가 늘어서 그 수는 포인트로
+ * 구분되고, 집합까지 넣으면 상태가 몇 배로 늘어난다). 노드는 자기 부서진 블록 목록을 그대로 들고 가서 시뮬레이션은 정확하다.
+ * 이동 블록은 플레이어와 무관하게 움직이므로 같은 깊이의 노드는 같은 이동 블록 배치(깊이별 템플릿)를 공유한다.
+ *
+ * 대시 횟수별로 층을 나눠(0-1 BFS) 먼저 끝낸 층에서 찾은 골이 최소 대시다.
+ * 한 깊이의 노드들은 포크-조인 풀에서 병렬로 펼치고, 방문 표는 잠금을 나눈 long 키 표(Visited)다. 같은 버킷에 여러 상태가
+ * 닿으면 (대시, 깊이, 순번)이 가장 작은 것만 남겨서 스레드 수나 실행 순서와 상관없이 결과가 같다.
+ * 버킷으로 합친 만큼 최소 대시는 이 해상도에서의 값이고, 증거 입력은 새 월드에 재생해 확인한다.
+ * 한도(maxStates/maxDepth/maxDashes)에 걸려 다 못 찾았으면 도달 불가가 아니라 truncated로 알린다.
+ */
+public class LevelChecker {
+    public static final int MACRO_TICKS = 10;
+    public static final float POS_BUCKET = 8f;          // px
+    public static final float VEL_BUCKET = 130f;        // px/s, 중력으로 0.1초에 바뀌는 만큼
+
+    private static final float DT = 1f / Constants.SIM_HZ;
+    private static final int SLICE = 32;                // 작업 하나가 펼치는 노드 수
+
+    // 묶음 입력. JUMP/DASH는 첫 틱에만 누른다
+    private static final int[] ACTIONS = {
+        0,
+        InputRecorder.LEFT,
+        InputRecorder.RIGHT,
+        InputRecorder.JUMP,
+        InputRecorder.JUMP | InputRecorder.LEFT,
+        InputRecorder.JUMP | InputRecorder.RIGHT,
+        InputRecorder.DASH | InputRecorder.LEFT,
+        InputRecorder.DASH | InputRecorder.RIGHT,
+    };
+
+    /** 검사 결과. */
+    public static final class Result {
+        public int level;
+        public boolean reachable;
+        public boolean verified;        // 증거 입력을 새 월드에 재생해서 실제로 골에 닿았는지
+        public boolean truncated;       // 골을 못 찾았는데 한도에 걸려 탐색을 다 못 함(도달 불가로 확정 못 함)
+        public int minDashes = -1;
+        public long ticks;              // 증거 입력 길이
+        public long states;             // 방문한 상태 수
+        public long millis;
+        public byte[] witness;          // InputRecorder 형식, 도달 못 하면 null
+
+        @Override
+        public String toString() {
+            if (truncated) return "level " + level + ": SEARCH TRUNCATED, GOAL not found within limits (" + states + " states, " + millis + " ms)";
+            if (!reachable) return "level " + level + ": GOAL unreachable (" + states + " states, " + millis + " ms)";
+            return "level " + level + ": GOAL reachable, min dashes " + minDashes + ", " + ticks + " ticks"
+                + (verified ? "" : " (WITNESS FAILED TO REPLAY)")
+                + " (" + states + " states, " + millis + " ms)";
+        }
+    }
+
+    // 부서진 블록 목록(부모와 꼬리를 공유)
+    private static final class Broken {
+        final int gx, gy;
+        final Broken next;
+
+        Broken(int gx, int gy, Broken next) {
+            this.gx = gx;
+            this.gy = gy;
+            this.next = next;
+        }
+    }
+
+    private static final class Node {
+        Node parent;
+        int action;
+        int depth;          // 묶음 수
+        int dashes;
+        long rank;          // 같은 깊이 안의 순번(부모 순번 * 행동 수 + 행동)
+        int goalTick = -1;  // 마지막 묶음 안에서 골에 닿은 틱(골 노드만)
+        long key;
+
+        float x, y, vx, vy, prevX, prevY, dashRemaining;
+        int jumpsLeft, dashDir, points;
+        boolean grounded, dashing, onSlippery;
+        Broken broken;
+    }
+
+    public int maxDashes = 8;
+    public int maxDepth = 120 * Constants.SIM_HZ / MACRO_TICKS;    // 묶음 수(120초)
+    public long maxStates = 1_000_000;                             // checkLevels 힙(512m) 안에서 멈추도록
+
+    private final ForkJoinPool pool;
+
+    // 탐색 중 상태
+    private int startLevel;
+    private final List<GameWorld.Snapshot> templates = new ArrayList<>();
+    private GameWorld templateWorld;                // 마지막 템플릿 상태
+    private Visited visited;
+    private final AtomicReference<Node> goal = new AtomicReference<>();
+    private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+
+    public LevelChecker() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public LevelChecker(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** 내장 레벨 1~3 검사. */
+    public Result check(int level) {
+        GameWorld world = new GameWorld();
+        world.loadLevel(level);
+        return check(world);
+    }
+
+    public Result check(LevelData level) {
+        GameWorld world = new GameWorld();
+        world.loadLevel(level);
+        return check(world);
+    }
+
+    // start는 막 로드한 상태여야 한다
+    private synchronized Result check(GameWorld start) {
+        long t0 = System.nanoTime();
+        startLevel = start.level();
+        start.state.point = 0;
+        templates.clear();
+        templates.add(start.save(new GameWorld.Snapshot()));
+        templateWorld = start;
+        visited = new Visited();
+        goal.set(null);
+
+        Node root = new Node();
+        save(start, root);
+        root.key = key(root);
+        visited.claim(root);
+
+        // layer: 대시 d번으로 닿은 노드들, 깊이별
+        List<List<Node>> layer = new ArrayList<>();
+        bucket(layer, 0).add(root);
+
+        Result r = new Result();
+        r.level = startLevel;
+        boolean truncated = false, full = false;
+        for (int d = 0; d <= maxDashes && goal.get() == null && !full; d++) {
+            List<List<Node>> next = new ArrayList<>();
+            for (int depth = 0; depth < layer.size(); depth++) {
+                List<Node> frontier = layer.get(depth);
+                layer.set(depth, null);
+                if (frontier == null || frontier.isEmpty()) continue;
+                // maxDepth보다 긴 길은 버리고, 상태 수 한도면 탐색을 멈춘다
+                if (depth > maxDepth) {
+                    truncated = true;
+                    continue;
+                }
+                if (visited.size() > maxStates) {
+                    truncated = full = true;
+                    break;
+                }
+
+                // 앞 층에서 대시로 넘어온 노드는 여기서 방문 표와 겨룬다. 살아남은 것만 순번을 다시 매긴다
+                List<Node> fresh = new ArrayList<>(frontier.size());
+                for (Node n : frontier) {
+                    if (n.parent == null || claim(n) == n) {
+                        n.rank = fresh.size();
+                        fresh.add(n);
+                    }
+                }
+
+                template(depth + 1);
+                ConcurrentLinkedQueue<Node> same = new ConcurrentLinkedQueue<>();
+                ConcurrentLinkedQueue<Node> dashed = new ConcurrentLinkedQueue<>();
+                pool.invoke(new Expand(fresh, 0, fresh.size(), same, dashed));
+                // 이 층(대시 d번)에서 골에 닿았으면 여기가 최소 대시의 가장 얕은 깊이
+                Node g = goal.get();
+                if (g != null && g.dashes == d) break;
+
+                List<Node> b = bucket(layer, depth + 1);
+                for (Node n : same) if (visited.get(n.key) == n) b.add(n);
+                Collections.sort(b, BY_RANK);
+                for (Node n : dashed) bucket(next, n.depth).add(n);
+            }
+            // 대시 d번으로는 못 가고 d + 1번으로 가는 길을 이미 찾았으면 그게 최소
+            if (goal.get() != null || full) break;
+            // 대시 한도를 넘는 노드가 남았으면 그쪽은 못 본 것
+            if (d == maxDashes && !isEmpty(next)) truncated = true;
+            for (List<Node> b : next) if (b != null) Collections.sort(b, BY_RANK);
+            layer = next;
+        }
+
+        Node g = goal.get();
+        r.states = visited.size();
+        r.truncated = g == null && truncated;
+        if (g != null) {
+            r.reachable = true;
+            r.minDashes = g.dashes;
+            r.witness = witness(g);
+            r.ticks = (long) (g.depth - 1) * MACRO_TICKS + g.goalTick + 1;
+            r.verified = replays(r.witness);
+        }
+        templates.clear();
+        templateWorld = null;
+        visited = null;
+        r.millis = (System.nanoTime() - t0) / 1_000_000;
+        return r;
+    }
+
+    private static final Comparator<Node> BY_RANK = new Comparator<Node>() {
+        @Override
+        public int compare(Node a, Node b) {
+            return Long.compare(a.rank, b.rank);
+        }
+    };
+
+    // (대시, 깊이, 순번)이 작은 쪽이 이긴다
+    private static boolean better(Node a, Node b) {
+        if (a.dashes != b.dashes) return a.dashes < b.dashes;
+        if (a.depth != b.depth) return a.depth < b.depth;
+        return a.rank < b.rank;
+    }
+
+    // 방문 표에 n을 넣어 보고 그 버킷의 주인을 돌려준다
+    private Node claim(Node n) {
+        return visited.claim(n);
+    }
+
+    /**
+     * 방문 표: 상태 키(long) -> 그 버킷의 주인 노드. 키 상위 비트로 고른 줄(stripe)마다 잠금 하나와
+     * 열린 주소법 배열을 둔다. 박싱된 Long 키나 맵 엔트리 객체를 만들지 않는다.
+     */
+    private static final class Visited {
+        private static final int STRIPE_BITS = 6;
+
+        private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+
+        Visited() {
+            for (int i = 0; i < stripes.length; i++) stripes[i] = new Stripe();
+        }
+
+        private Stripe stripe(long key) {
+            return stripes[(int) (key >>> (64 - STRIPE_BITS))];
+        }
+
+        Node get(long key) {
+            return stripe(key).get(key);
+        }
+
+        Node claim(Node n) {
+            return stripe(n.key).claim(n);
+        }
+
+        long size() {
+            long total = 0;
+            for (Stripe s : stripes) total += s.size();
+            return total;
+        }
+    }
+
+    private static final class Stripe {
+        private long[] keys = new long[256];
+        private Node[] nodes = new Node[256];   // null = 빈 칸
+        private int size;
+
+        synchronized Node get(long key) {
+            int mask = keys.length - 1;
+            for (int i = (int) key & mask; nodes[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) return nodes[i];
+            }
+            return null;
+        }
+
+        // 키가 없으면 n을 넣고, 있으면 더 나은 쪽을 남긴다. 남은 노드를 돌려준다
+        synchronized Node claim(Node n) {
+            int mask = keys.length - 1;
+            int i = (int) n.key & mask;
+            for (; nodes[i] != null; i = (i + 1) & mask) {
+                if (keys[i] != n.key) continue;
+                if (better(n, nodes[i])) nodes[i] = n;
+                return nodes[i];
+            }
+            keys[i] = n.key;
+            nodes[i] = n;
+            if (++size * 2 > keys.length) grow();
+            return n;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            Node[] oldNodes = nodes;
+            keys = new long[oldKeys.length * 2];
+            nodes = new Node[oldNodes.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldNodes.length; j++) {
+                if (oldNodes[j] == null) continue;
+                int i = (int) oldKeys[j] & mask;
+                while (nodes[i] != null) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                nodes[i] = oldNodes[j];
+            }
+        }
+    }
+
+    private static boolean isEmpty(List<List<Node>> byDepth) {
+        for (List<Node> b : byDepth) if (b != null && !b.isEmpty()) return false;
+        return true;
+    }
+
+    private void offerGoal(Node c) {
+        Node g;
+        do {
+            g = goal.get();
+            if (g != null && !better(c, g)) return;
+        } while (!goal.compareAndSet(g, c));
+    }
+
+    private static List<Node> bucket(List<List<Node>> byDepth, int depth) {
+        while (byDepth.size() <= depth) byDepth.add(null);
+        List<Node> b = byDepth.get(depth);
+        if (b == null) byDepth.set(depth, b = new ArrayList<>());
+        return b;
+    }
+
+    // 깊이 depth(묶음 수) 시점의 맵: 이동 블록만 depth * MACRO_TICKS틱 진행
+    private GameWorld.Snapshot template(int depth) {
+        while (templates.size() <= depth) {
+            for (int i = 0; i < MACRO_TICKS; i++) templateWorld.blocks.updateMoving(DT);
+            templates.add(templateWorld.save(new GameWorld.Snapshot()));
+        }
+        return templates.get(depth);
+    }
+
+    // 스레드별 작업 월드. 부서진 블록을 리스너로 받아 노드에 옮긴다
+    private final class Worker implements GameWorld.Listener {
+        final GameWorld world = new GameWorld();
+        final PlayerInput in = new PlayerInput();
+        Broken broken;
+        boolean loaded;
+
+        Worker() {
+            world.addListener(this);
+        }
+
+        void restore(Node n) {
+            world.restore(templates.get(n.depth));
+            for (Broken b = n.broken; b != null; b = b.next) {
+                int idx = world.grid.get(b.gx, b.gy);
+                if (idx != BlockGrid.EMPTY) world.removeAt(idx);
+            }
+            GameCharacter p = world.player;
+            p.pos.set(n.x, n.y);
+            p.vel.set(n.vx, n.vy);
+            p.prevPos.set(n.prevX, n.prevY);
+            p.grounded = n.grounded;
+            p.jumpsLeft = n.jumpsLeft;
+            p.dashing = n.dashing;
+            p.dashRemaining = n.dashRemaining;
+            p.dashDir = n.dashDir;
+            world.state.point = n.points;
+            world.onSlippery = n.onSlippery;
+            world.fellThisFrame = false;
+            broken = n.broken;
+            loaded = false;
+        }
+
+        @Override
+        public void levelLoaded(GameWorld w) {
+            loaded = true;
+        }
+
+        @Override
+        public void blockBroken(GameWorld w, Block b) {
+            broken = new Broken(b.gx, b.gy, broken);
+        }
+
+        @Override
+        public void columnsChanged(GameWorld w, int x0, int x1) {
+        }
+    }
+
+    private Worker worker() {
+        Worker w = workers.get();
+        if (w == null) workers.set(w = new Worker());
+        return w;
+    }
+
+    private final class Expand extends RecursiveAction {
+        private final List<Node> nodes;
+        private final int from, to;
+        private final ConcurrentLinkedQueue<Node> same, dashed;
+
+        Expand(List<Node> nodes, int from, int to, ConcurrentLinkedQueue<Node> same, ConcurrentLinkedQueue<Node> dashed) {
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+            this.same = same;
+            this.dashed = dashed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SLICE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Expand(nodes, from, mid, same, dashed), new Expand(nodes, mid, to, same, dashed));
+                return;
+            }
+            Worker w = worker();
+            for (int i = from; i < to; i++) expand(w, nodes.get(i), same, dashed);
+        }
+    }
+
+    private void expand(Worker w, Node n, ConcurrentLinkedQueue<Node> same, ConcurrentLinkedQueue<Node> dashed) {
+        for (int a = 0; a < ACTIONS.length; a++) {
+            int action = ACTIONS[a];
+            boolean dash = (action & InputRecorder.DASH) != 0;
+            if (dash && (n.dashing || n.points < Constants.DASH_COST)) continue;
+            // 점프가 안 되면 점프 묶음은 점프 없는 묶음(더 앞 순번)과 똑같은 결과라 버려진다
+            if ((action & InputRecorder.JUMP) != 0 && n.jumpsLeft <= 0) continue;
+
+            w.restore(n);
+            GameWorld world = w.world;
+            int goalTick = -1;
+            boolean dead = false;
+            for (int t = 0; t < MACRO_TICKS; t++) {
+                input(w.in, action, t);
+                world.step(DT, w.in);
+                if (w.loaded || world.isCleared() || world.level() != startLevel) { goalTick = t; break; }
+                if (world.isDead()) { dead = true; break; }
+            }
+            if (dead) continue;
+
+            Node c = new Node();
+            c.parent = n;
+            c.action = action;
+            c.depth = n.depth + 1;
+            c.dashes = n.dashes + (dash ? 1 : 0);
+            c.rank = n.rank * ACTIONS.length + a;
+            if (goalTick >= 0) {
+                c.goalTick = goalTick;
+                offerGoal(c);
+                continue;
+            }
+            save(world, c);
+            c.broken = w.broken;
+            c.key = key(c);
+            if (dash) dashed.add(c);
+            else if (claim(c) == c) same.add(c);
+        }
+    }
+
+    private static void input(PlayerInput in, int action, int tick) {
+        in.left  = (action & InputRecorder.LEFT) != 0;
+        in.right = (action & InputRecorder.RIGHT) != 0;
+        in.jump  = tick == 0 && (action & InputRecorder.JUMP) != 0;
+        in.dash  = tick == 0 && (action & InputRecorder.DASH) != 0;
+    }
+
+    private static void save(GameWorld world, Node n) {
+        GameCharacter p = world.player;
+        n.x = p.pos.x;
+        n.y = p.pos.y;
+        n.vx = p.vel.x;
+        n.vy = p.vel.y;
+        n.prevX = p.prevPos.x;
+        n.prevY = p.prevPos.y;
+        n.grounded = p.grounded;
+        n.jumpsLeft = p.jumpsLeft;
+        n.dashing = p.dashing;
+        n.dashRemaining = p.dashRemaining;
+        n.dashDir = p.dashDir;
+        n.points = world.state.point;
+        n.onSlippery = world.onSlippery;
+    }
+
+    private static long key(Node n) {
+        long h = (int) Math.floor(n.x / POS_BUCKET);
+        h = h * 31 + (int) Math.floor(n.y / POS_BUCKET);
+        // 가로 속도는 매 틱 입력으로 정해지므로 미끄러질 때만 구분
+        if (n.onSlippery) h = h * 31 + Math.round(n.vx / VEL_BUCKET);
+        h = h * 31 + Math.round(n.vy / VEL_BUCKET);
+        h = h * 31 + n.jumpsLeft;
+        h = h * 31 + n.points;
+        h = h * 31 + (n.dashing ? 1 + (int) (n.dashRemaining / POS_BUCKET) : 0);
+        h = h * 31 + (n.grounded ? 1 : 0) + (n.onSlippery ? 2 : 0);
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 루트부터 골까지 묶음을 틱 입력으로 풀어 기록
+    private byte[] witness(Node g) {
+        List<Node> path = new ArrayList<>();
+        for (Node n = g; n.parent != null; n = n.parent) path.add(n);
+
+        InputRecorder rec = new InputRecorder();
+        rec.begin(startLevel, Constants.SIM_HZ);
+        PlayerInput in = new PlayerInput();
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node n = path.get(i);
+            int ticks = n == g ? g.goalTick + 1 : MACRO_TICKS;
+            for (int t = 0; t < ticks; t++) {
+                input(in, n.action, t);
+                rec.record(in);
+            }
+        }
+        return rec.toBytes();
+    }
+
+    private boolean replays(byte[] witness) {
+        GameWorld world = new GameWorld();
+        world.restore(templates.get(0));
+        InputPlayer player = new InputPlayer(witness);
+        PlayerInput in = new PlayerInput();
+        player.rewind();
+        while (player.next(world, in)) {
+            world.step(player.stepSeconds(), in);
+            if (world.isCleared() || world.level() != startLevel) return true;
+            if (world.isDead()) return false;
+        }
+        return false;
+    }
+
+    /**
+     * 빌드 게이트용: 인자로 준 레벨(없으면 1 2 3)을 검사하고 하나라도 못 깨면 1로 끝난다.
+     * -Dlevelcheck.witnessDir=<폴더>면 증거 입력을 거기에 level<N>.gvr로 쓴다(-Dgame.replay로 재생).
+     */
+    public static void main(String[] args) {
+        int[] levels = args.length == 0 ? new int[] {1, 2, 3} : new int[args.length];
+        for (int i = 0; i < args.length; i++) levels[i] = Integer.parseInt(args[i]);
+        String witnessDir = System.getProperty("levelcheck.witnessDir");
+
+        LevelChecker checker = new LevelChecker();
+        boolean ok = true;
+        for (int lv : levels) {
+            Result r = checker.check(lv);
+            System.out.println(r);
+            ok &= r.reachable && r.verified;
+            if (witnessDir != null && r.witness != null) writeWitness(new File(witnessDir, "level" + lv + ".gvr"), r.witness);
+        }
+        if (!ok) System.exit(1);
+    }
+
+    private static void writeWitness(File file, byte[] witness) {
+        try {
+            File dir = file.getParentFile();
+            if (dir != null) dir.mkdirs();
+            try (OutputStream out = new FileOutputStream(file)) {
+                out.write(witness);
+            }
+            System.out.println("  witness: " + file.getPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+
+/**
+ * 한 레벨의 타일 격자(불변). 칸마다 0 = 빈칸, 그 외 Block.Type.ordinal() + 1. gy는 아래쪽이 0.
+ * equals/hashCode는 내용(폭, 높이, 타일) 기준이라 같은 맵을 다시 읽어도 CompiledLevelCache에서 적중한다.
+ */
+public final class LevelData implements ChunkSource {
+    public static final byte EMPTY = 0;
+
+    private static final Block.Type[] TYPES = Block.Type.values();
+
+    public final int width, height;
+    private final byte[] tiles;         // gy * width + gx
+    private int hash;                   // 0 = 아직 계산 안 함
+
+    public LevelData(int width, int height, byte[] tiles) {
+        if (tiles.length != width * height) throw new IllegalArgumentException("tiles.length != width * height");
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+    }
+
+    public byte code(int gx, int gy) {
+        if (gx < 0 || gy < 0 || gx >= width || gy >= height) return EMPTY;
+        return tiles[gy * width + gx];
+    }
+
+    public Block.Type get(int gx, int gy) {
+        return typeOf(code(gx, gy));
+    }
+
+    public static Block.Type typeOf(byte code) {
+        return code == EMPTY ? null : TYPES[code - 1];
+    }
+
+    public static byte codeOf(Block.Type type) {
+        return type == null ? EMPTY : (byte) (type.ordinal() + 1);
+    }
+
+    @Override public int width()  { return width; }
+    @Override public int height() { return height; }
+
+    @Override
+    public void read(int x0, int cols, byte[] out) {
+        int n = Math.max(0, Math.min(cols, width - x0));
+        for (int gy = 0; gy < height; gy++) {
+            System.arraycopy(tiles, gy * width + x0, out, gy * cols, n);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * (31 * width + height) + Arrays.hashCode(tiles);
+            if (h == 0) h = 1;
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof LevelData)) return false;
+        LevelData d = (LevelData) o;
+        return width == d.width && height == d.height && hashCode() == d.hashCode() && Arrays.equals(tiles, d.tiles);
+    }
+
+    // 직렬화용(복사본 아님, 수정 금지)
+    byte[] rawTiles() {
+        return tiles;
+    }
+
+    public static Block.Type typeOfChar(char c) {
+        switch (c) {
+            case '#': return Block.Type.SOLID;
+            case 'B': return Block.Type.BREAKABLE;
+            case 'W': return Block.Type.GOAL;
+            case 'S': return Block.Type.SLIPPERY;
+            case 'R': return Block.Type.POISON;           // 보라(정지)
+            case 'r': return Block.Type.POISON_MOVING;    // 보라(이동)
+            default:  return null;
+        }
+    }
+
+    /** 문자 행(위쪽 행이 먼저) -> 격자. 행 길이가 다르면 가장 긴 행에 맞춘다. */
+    public static LevelData fromRows(String[] rows) {
+        int h = rows.length;
+        int w = 0;
+        for (String row : rows) w = Math.max(w, row.length());
+
+        byte[] tiles = new byte[w * h];
+        for (int y = 0; y < h; y++) {
+            String row = rows[y];
+            int gy = h - 1 - y;
+            for (int x = 0; x < row.length(); x++) {
+                tiles[gy * w + x] = codeOf(typeOfChar(row.charAt(x)));
+            }
+        }
+        return new LevelData(w, h, tiles);
+    }
+}
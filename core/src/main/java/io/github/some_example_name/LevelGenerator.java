@@ -0,0 +1,85 @@
+package io.github.some_example_name;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 벤치마크/툴용 합성 맵. 열 단위로 (seed, x)에서 결정적으로 만들어지므로
+ * 전체 행 배열(generate)로도, 필요한 열만 그때그때 만드는 청크 소스(streaming)로도 쓸 수 있다.
+ */
+public final class LevelGenerator {
+    private LevelGenerator() {}
+
+    private static final int SAFE_COLUMNS = 10;   // 스폰 근처는 비워 둔다
+    private static final int MAX_PLATFORM = 6;
+    private static final long PLATFORM_SALT = 0x5DEECE66DL;
+
+    /** GameWorld.loadLevel(String[])에 넣을 행 배열(위쪽 행이 먼저). movingEvery 칸마다 이동 독 블록 하나(0이면 없음). */
+    public static String[] generate(int width, int height, int movingEvery, long seed) {
+        char[][] g = new char[height][width];
+        char[] col = new char[height];
+        for (int x = 0; x < width; x++) {
+            column(x, width, height, movingEvery, seed, col);
+            for (int y = 0; y < height; y++) g[y][x] = col[y];
+        }
+
+        String[] rows = new String[height];
+        for (int y = 0; y < height; y++) rows[y] = new String(g[y]);
+        return rows;
+    }
+
+    /** generate와 같은 맵을 전체를 만들지 않고 요청된 열만 만드는 청크 소스. */
+    public static ChunkSource streaming(final int width, final int height, final int movingEvery, final long seed) {
+        return new ChunkSource() {
+            @Override public int width()  { return width; }
+            @Override public int height() { return height; }
+
+            @Override
+            public void read(int x0, int cols, byte[] out) {
+                char[] col = new char[height];
+                int n = Math.min(cols, width - x0);
+                for (int i = 0; i < n; i++) {
+                    column(x0 + i, width, height, movingEvery, seed, col);
+                    for (int y = 0; y < height; y++) {
+                        out[(height - 1 - y) * cols + i] = LevelData.codeOf(LevelData.typeOfChar(col[y]));
+                    }
+                }
+            }
+        };
+    }
+
+    // 열 x의 문자(col[0]이 맨 위 행). 같은 (seed, x)면 항상 같은 결과
+    static void column(int x, int width, int height, int movingEvery, long seed, char[] col) {
+        Arrays.fill(col, '.');
+        int ground = height - 1;
+        if (x == width - 1) {                                   // 끝 벽
+            Arrays.fill(col, '#');
+            return;
+        }
+
+        Random rnd = new Random(seed * 0x9E3779B97F4A7C15L + x);
+        boolean inner = x >= SAFE_COLUMNS && x < width - 8;
+
+        boolean pit = inner && x > SAFE_COLUMNS && rnd.nextInt(14) == 0;
+        if (!pit) col[ground] = rnd.nextInt(10) == 0 ? 'S' : '#';
+
+        if (inner) {
+            // 발판: 앞쪽 몇 칸에서 시작한 발판이 x까지 이어지면 채운다
+            for (int s = Math.max(SAFE_COLUMNS, x - MAX_PLATFORM + 1); s <= x; s++) {
+                Random p = new Random((seed ^ PLATFORM_SALT) * 0x9E3779B97F4A7C15L + s);
+                if (p.nextInt(6) != 0) continue;
+                int y = 2 + p.nextInt(Math.max(1, height - 5));
+                int len = 2 + p.nextInt(MAX_PLATFORM - 1);
+                if (x - s < len) col[y] = rnd.nextInt(8) == 0 ? 'B' : '#';
+            }
+            // 정지형 독
+            if (rnd.nextInt(12) == 0) col[ground - 1] = 'R';
+            // 공중 파괴 블록
+            if (rnd.nextInt(20) == 0) col[1 + rnd.nextInt(Math.max(1, height - 3))] = 'B';
+            // 이동형 독
+            if (movingEvery > 0 && x % movingEvery == 0) col[1 + rnd.nextInt(Math.max(1, height - 4))] = 'r';
+        }
+
+        if (x == width - 3) col[ground - 1] = 'W';              // 골
+    }
+}
@@ -3,6 +3,8 @@ package io.github.some_example_name;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -11,54 +13,190 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
-
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.stream.ImageInputStream;
-import javax.imageio.stream.MemoryCacheImageInputStream;
-import java.awt.image.BufferedImage;
-import java.io.InputStream;
-import java.util.Iterator;
+import com.badlogic.gdx.utils.Align;
 
 public class Main extends ApplicationAdapter {
     private OrthographicCamera cam;
-    private ShapeRenderer sr;
+    private ShapeRenderer sr;       // 디버그 외곽선(F2)에서만, 처음 켤 때 만든다
+    private boolean debugShapes;
     private SpriteBatch batch;
     private BitmapFont font;
-    private GlyphLayout layout;
 
     private GameWorld world;
 
     private boolean shaking = false;
     private float shakeTimer = 0f;
 
+    // 고정 스텝 시뮬레이션(false면 프레임 dt를 그대로 사용)
+    private final boolean fixedStep;
+    private final FixedTimestep timestep;
+    private int tickRate;
+    private float renderAlpha = 1f;
+
+    // 프레임마다 읽은 입력. 점프/대시는 다음 틱이 소비할 때까지 유지
+    private final PlayerInput input = new PlayerInput();
+    private WorldRenderer renderer;
+    private int frameCallsLogged = -1;  // 프레임 드로우 콜(정적 캐시 + 배치), 바뀔 때만 로그
+
+    // 구간별 프레임 시간(F3 오버레이, F4 CSV)
+    private final FrameProfiler profiler = new FrameProfiler();
+    private int frameRenderCalls;
+
+    // 정상 상태 프레임 할당 검사(-Dgame.allocCheck): 예열 뒤 ALLOC_CHECK_FRAMES 동안 한 바이트라도 할당하면 실패
+    private static final int ALLOC_WARMUP_FRAMES = 300;
+    private static final int ALLOC_CHECK_FRAMES = 600;
+    private boolean allocCheck;
+    private int allocFrames;
+    private long allocBytes, allocMaxFrame;
+
+    // HUD 글자. 점수/레벨/일시정지가 바뀔 때만 다시 배치하고 고정 문구는 create()에서 한 번
+    private static final String HUD_KEYS = "   [Z]double Jump! [X]Dash(cost : 1 point)  [R]Restart  [ESC/P]Pause";
+    private static final Color TEXT = new Color(1f, 1f, 1f, 1f);
+    private static final Color TEXT_SHADOW = new Color(0f, 0f, 0f, 0.9f);
+    private final StringBuilder hudText = new StringBuilder(128);
+    private final GlyphLayout hudLayout = new GlyphLayout();
+    private int hudPoint = -1, hudLevel = -1;
+    private boolean hudPaused;
+    private final GlyphLayout dieLayout = new GlyphLayout();
+    private final GlyphLayout clearTitle = new GlyphLayout(), clearTitleShadow = new GlyphLayout();
+    private final GlyphLayout clearHint = new GlyphLayout(), clearHintShadow = new GlyphLayout();
+    private final StringBuilder loadingText = new StringBuilder(32);
+
+    // 입력 기록/재생(고정 스텝 모드에서만 결정적)
+    private final InputRecorder recorder = new InputRecorder();
+    private String recordFile;
+    private String replayFile;
+    private InputPlayer replay;
+
+    // 변환 결과 캐시(external = 사용자 홈). 실행 폴더(assets)를 더럽히지 않도록 분리
+    static final String CACHE_DIR = ".ShyProject/cache";
+
+    // 내장 레벨 대신 시작할 TMX 맵(internal 경로)
+    private String mapFile;
+
+    // 비동기 에셋 로딩(끝날 때까지 진행 화면)
+    private static final int LOAD_BUDGET_MS = 12;   // 로딩 중 프레임당 AssetManager.update 시간
+    private AssetManager assets;
+    private boolean loading = true;
+    private int loadingFrames = 0;
+    private StartupReport startup;
+    private String startupReportFile;
+    private boolean exitAfterStartup;
+
     // 클리어 GIF
-    private com.badlogic.gdx.utils.Array<Texture> clearGifTextures;
-    private com.badlogic.gdx.utils.Array<TextureRegion> clearGifRegions;
+    private GifSheet clearGif;      // 클리어 화면 GIF(필요해질 때 백그라운드 디코딩)
     private float clearGifFrameDuration = 0.06f;
     private float clearGifTimer = 0f;
 
+    public Main() {
+        this(true, Constants.SIM_HZ);
+    }
+
+    public Main(boolean fixedStep, int tickRate) {
+        this.fixedStep = fixedStep;
+        this.tickRate = tickRate;
+        this.timestep = new FixedTimestep(tickRate, Constants.MAX_STEPS_PER_FRAME);
+    }
+
+    /** 종료 시 이번 세션 입력을 이 파일(local)에 저장. 외부 맵(setMapFile)으로 시작하면 기록하지 않는다. */
+    public void setRecordFile(String path) {
+        this.recordFile = path;
+    }
+
+    /** 내장 레벨 대신 이 TMX 맵(internal, 예: maps/level1.tmx)으로 시작. 파싱 결과는 CACHE_DIR/levels에 저장. */
+    public void setMapFile(String path) {
+        this.mapFile = path;
+    }
+
+    /** 키보드 대신 이 기록 파일(local)의 입력으로 플레이. */
+    public void setReplayFile(String path) {
+        this.replayFile = path;
+    }
+
+    /** 시작 시간 측정 결과를 이 파일(CSV)에 한 줄 추가. exitAfterStartup이면 첫 게임 프레임 뒤 종료(빌드 측정용). */
+    public void setStartupReport(String csvPath, boolean exitAfterStartup) {
+        this.startupReportFile = csvPath;
+        this.exitAfterStartup = exitAfterStartup;
+    }
+
+    /** 예열 뒤 게임 프레임이 할당하지 않는지 검사하고 종료. 할당이 있으면 IllegalStateException(빌드 검사용). */
+    public void setAllocationCheck(boolean allocCheck) {
+        this.allocCheck = allocCheck;
+    }
+
     @Override
     public void create() {
+        startup = new StartupReport();
         cam = new OrthographicCamera();
         cam.setToOrtho(false, Constants.V_WIDTH, Constants.V_HEIGHT);
-        sr = new ShapeRenderer();
         batch = new SpriteBatch();
         font = new BitmapFont();
-        layout = new GlyphLayout();
-
-        Assets.load();
-        loadClearGif("clear.gif");
+        renderer = new WorldRenderer();
+        dieLayout.setText(font, "YOU DIE!");
+        setText(clearTitle, clearTitleShadow, "All stages cleared!");
+        setText(clearHint, clearHintShadow, "Press Enter to restart from Stage 1.");
+
+        assets = new AssetManager();
+        startup.assetsQueued(Assets.queue(assets));
+        clearGif = new GifSheet(Gdx.files.internal("clear.gif"), Gdx.files.external(CACHE_DIR + "/gif").file());
+        // 월드는 첫 진행 화면을 띄운 뒤 만든다(updateLoading)
+    }
 
+    // 맵/리플레이 준비. 에셋은 그동안 AssetManager 스레드에서 계속 읽힌다
+    private void createWorld() {
         world = new GameWorld();
+        renderer.attach(world);
+        if (mapFile != null) {
+            try {
+                FileHandle tmx = Gdx.files.internal(mapFile);
+                LevelCache cache = new LevelCache(Gdx.files.external(CACHE_DIR + "/levels").file());
+                world.loadLevel(cache.loadTmx(tmx.nameWithoutExtension(), tmx.readBytes()));
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        if (replayFile != null && fixedStep) {
+            try {
+                replay = new InputPlayer(Gdx.files.local(replayFile).readBytes());
+                tickRate = replay.tickRate;
+                timestep.setTickRate(tickRate);
+                world.loadLevel(replay.startLevel);
+            } catch (Exception e) {
+                e.printStackTrace();
+                replay = null;
+            }
+        }
+        // 기록 파일 머리에는 내장 레벨 번호만 들어가서 외부 맵 세션은 재생하면 어긋난다
+        if (recordFile != null && world.isCustomLevel()) {
+            System.err.println("Input recording only supports the built-in stages; " + recordFile
+                + " will not be written (map: " + mapFile + ")");
+            recordFile = null;
+        }
+        // 기록하지 않는 세션은 recorder를 건드리지 않는다(버퍼가 끝없이 커짐)
+        if (recordFile != null) recorder.begin(world.state.currentLevel, tickRate);
+    }
+
+    private void loadLevel(int lv) {
+        world.loadLevel(lv);
+        if (recordFile != null) recorder.markLevelLoad(world.state.currentLevel);
+    }
+
+    private void timedInput(float dt) {
+        profiler.begin(FrameProfiler.INPUT);
+        handleInput(dt);
+        profiler.end(FrameProfiler.INPUT);
     }
 
     private void handleInput(float dt) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F2)) debugShapes = !debugShapes;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) profiler.visible = !profiler.visible;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) dumpProfile();
+
         if (world.state.cleared) {
             if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
-                world.loadLevel(1);
+                loadLevel(1);
                 world.state.point = 0;
                 clearGifTimer = 0f;
             }
@@ -68,51 +206,119 @@ public class Main extends ApplicationAdapter {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) || Gdx.input.isKeyJustPressed(Input.Keys.P)) {
             world.state.paused = !world.state.paused;
         }
+        if (replay != null) return; // 재생 중에는 일시정지만 받는다
         if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
             world.restartLevel(true);
+            if (recordFile != null) recorder.markRestart();
         }
-        if (world.state.paused || shaking) return;
-
-        float ax = 0f;
-        boolean left  = Gdx.input.isKeyPressed(Input.Keys.LEFT)  || Gdx.input.isKeyPressed(Input.Keys.A);
-        boolean right = Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D);
-
-        if (!world.player.dashing) {
-            if (left)  ax -= Constants.MOVE_SPEED;
-            if (right) ax += Constants.MOVE_SPEED;
-            if (ax != 0f) world.player.vel.x = ax;
-            else {
-                if (world.onSlippery && world.player.grounded) {
-                    world.player.vel.x *= Constants.SLIPPERY_DECAY;
-                    if (Math.abs(world.player.vel.x) < 1f) world.player.vel.x = 0f;
-                } else {
-                    world.player.vel.x = 0f;
-                }
-            }
+        if (world.state.paused || shaking) {
+            input.clear();
+            return;
+        }
+
+        input.left  = Gdx.input.isKeyPressed(Input.Keys.LEFT)  || Gdx.input.isKeyPressed(Input.Keys.A);
+        input.right = Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.Z) || Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) input.jump = true;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.X)) input.dash = true;
+
+        //테스트용 핫키
+        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) loadLevel(1);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) loadLevel(2);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) loadLevel(3);
+    }
+
+    // 틱마다 한 번: 모아 둔 입력으로 한 틱 진행. 점프/대시는 첫 틱에서만 적용
+    private void tick(float dt) {
+        if (replay != null && !replay.next(world, input)) {
+            replay = null;
+            input.clear();
+        }
+        if (recordFile != null) recorder.record(input);
+        world.step(dt, input);
+        input.jump = false;
+        input.dash = false;
+    }
+
+    private void simulate(float dt) {
+        if (!fixedStep) {
+            tick(dt);
+            renderAlpha = 1f;
+            return;
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.Z) || Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            if (world.player.jumpsLeft > 0) {
-                world.player.vel.y = Constants.JUMP_VELOCITY;
-                world.player.jumpsLeft--;
+        int ticks = timestep.advance(dt);
+        for (int i = 0; i < ticks; i++) {
+            tick(timestep.stepSeconds());
+            // 죽음/클리어 이후 틱은 버림(fellThisFrame이 다음 틱에 지워지지 않도록)
+            if (world.fellThisFrame || world.state.cleared) {
+                timestep.reset();
+                break;
             }
         }
+        renderAlpha = timestep.alpha();
+    }
+
+    // 로딩 중이면 진행 화면을 그리고 true
+    private boolean updateLoading() {
+        if (!loading) return false;
 
-        if ((Gdx.input.isKeyJustPressed(Input.Keys.X))
-            && !world.player.dashing && world.state.point >= Constants.DASH_COST) {
-            world.state.point -= Constants.DASH_COST;
-            int dir = right ? 1 : (left ? -1 : (world.player.vel.x < 0 ? -1 : 1));
-            world.player.startDash(dir);
+        boolean done = assets.update(LOAD_BUDGET_MS);
+        startup.poll(assets);
+        drawLoading(assets.getProgress());
+
+        if (world == null && loadingFrames++ > 0) createWorld();
+        if (done && world != null) {
+            Assets.finish(assets);
+            startup.assetsDone();
+            loading = false;
         }
+        return true;
+    }
 
-        //테스트용 핫키
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) world.loadLevel(1);
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) world.loadLevel(2);
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) world.loadLevel(3);
+    private void drawLoading(float progress) {
+        Gdx.gl.glClearColor(0.1f, 0.12f, 0.15f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float barW = cam.viewportWidth * 0.5f, barH = 12f;
+        float barX = (cam.viewportWidth - barW) / 2f, barY = cam.viewportHeight / 2f - barH / 2f;
+        cam.position.set(cam.viewportWidth / 2f, cam.viewportHeight / 2f, 0f);
+        cam.update();
+
+        // 아틀라스가 아직 없으니 따로 만든 흰 텍스처로
+        TextureRegion white = Assets.whitePixel();
+        batch.setProjectionMatrix(cam.combined);
+        batch.begin();
+        batch.setColor(Color.DARK_GRAY);
+        batch.draw(white, barX, barY, barW, barH);
+        batch.setColor(Color.SKY);
+        batch.draw(white, barX, barY, barW * progress, barH);
+        batch.setColor(Color.WHITE);
+        loadingText.setLength(0);
+        loadingText.append("Loading... ").append((int) (progress * 100)).append('%');
+        font.draw(batch, loadingText, barX, barY + barH + 24f);
+        batch.end();
+    }
+
+    // 첫 게임 프레임 뒤 한 번
+    private void reportStartup() {
+        startup.firstFrame();
+        Gdx.app.log("startup", startup.toString());
+        if (startupReportFile != null) {
+            try {
+                startup.appendCsv(new java.io.File(startupReportFile));
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        if (exitAfterStartup) Gdx.app.exit();
     }
 
     @Override
     public void render() {
+        if (updateLoading()) return;
+
+        profiler.beginFrame();
+        frameRenderCalls = 0;
         float dt = Gdx.graphics.getDeltaTime();
         if (!world.state.cleared && world.fellThisFrame && !shaking) {
             shaking = true;
@@ -120,16 +326,21 @@ public class Main extends ApplicationAdapter {
         }
 
         if (world.state.cleared) {
-            handleInput(dt);
+            timedInput(dt);
             clearGifTimer += dt;
         } else if (!world.state.paused && !shaking) {
-            handleInput(dt);
-            world.step(dt);
+            timedInput(dt);
+            profiler.begin(FrameProfiler.STEP);
+            simulate(dt);
+            profiler.end(FrameProfiler.STEP);
         } else {
-            handleInput(dt);
+            timedInput(dt);
         }
 
-        float baseX = Math.max(cam.viewportWidth / 2f, world.player.pos.x + 100);
+        // 마지막 스테이지부터 클리어 GIF를 미리 디코딩(게임을 끝내지 않으면 아예 읽지 않음)
+        if (world.state.currentLevel >= 3 || world.state.cleared) clearGif.prefetch();
+
+        float baseX = Math.max(cam.viewportWidth / 2f, world.player.renderX(renderAlpha) + 100);
         float baseY = cam.viewportHeight / 2f;
 
         float offsetX = 0f, offsetY = 0f;
@@ -152,14 +363,19 @@ public class Main extends ApplicationAdapter {
         Gdx.gl.glClearColor(0.1f, 0.12f, 0.15f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        //월드 텍스처
+        //월드 + 도형 + HUD를 SpriteBatch 한 번으로(정적 타일만 캐시로 따로). 도형은 흰 영역에 색을 입힌다
+        profiler.begin(FrameProfiler.WORLD);
+        if (!world.state.cleared) {
+            renderer.cull(cam, world);
+            renderer.drawStatic(cam, world);    // 정적 타일(캐시)
+        }
         batch.setProjectionMatrix(cam.combined);
         batch.begin();
         if (!world.state.cleared) {
-            world.draw(batch); // 타일 텍스처
+            renderer.drawBlocks(batch, world, renderAlpha); // 타일 텍스처
         } else {
             // 클리어 화면
-            TextureRegion frame = getGifFrame(clearGifTimer);
+            TextureRegion frame = clearGif.frame(clearGifTimer, clearGifFrameDuration);
             if (frame != null) {
                 float scale = 1f;
                 float gifW = frame.getRegionWidth() * scale;
@@ -169,73 +385,119 @@ public class Main extends ApplicationAdapter {
                 batch.draw(frame, gifX, gifY, gifW, gifH);
             }
         }
-        batch.end();
+        profiler.end(FrameProfiler.WORLD);
 
         //테스트용 캐릭터
-        sr.setProjectionMatrix(cam.combined);
-        sr.begin(ShapeRenderer.ShapeType.Filled);
+        profiler.begin(FrameProfiler.SHAPES);
         if (!world.state.cleared) {
-            for (int i = 0; i < world.blocks.size; i++) {
-                world.blocks.get(i).drawShape(sr);
-            }
-            world.player.draw(sr);
+            renderer.drawShapes(batch, world, renderAlpha);
         } else {
             drawCrownedHeroLeft();
         }
-        sr.end();
+        profiler.end(FrameProfiler.SHAPES);
 
         //UI + 클리어
-        batch.setProjectionMatrix(cam.combined);
-        batch.begin();
+        profiler.begin(FrameProfiler.HUD);
         if (world.state.cleared) {
             float titleY = cam.viewportHeight * 0.72f;
             float gap    = 32f;
-            String line1 = "All stages cleared!";
-            String line2 = "Press Enter to restart from Stage 1.";
 
             // 패널
-            layout.setText(font, line1);
-            float line1W = layout.width, line1H = layout.height;
-            layout.setText(font, line2);
-            float line2W = layout.width, line2H = layout.height;
-            float panelW = Math.max(line1W, line2W) + 32f;
-            float panelH = (line1H + line2H) + gap + 24f;
+            float panelW = Math.max(clearTitle.width, clearHint.width) + 32f;
+            float panelH = (clearTitle.height + clearHint.height) + gap + 24f;
             float panelX = cam.position.x - panelW / 2f;
             float panelY = (titleY + 12f) - panelH;
+            renderer.fillRect(batch, panelX, panelY, panelW, panelH, 0f, 0f, 0f, 0.45f);
 
-            batch.end();
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            sr.setProjectionMatrix(cam.combined);
-            sr.begin(ShapeRenderer.ShapeType.Filled);
-            sr.setColor(0f, 0f, 0f, 0.45f);
-            sr.rect(panelX, panelY, panelW, panelH);
-            sr.end();
-            Gdx.gl.glDisable(GL20.GL_BLEND);
-            batch.begin();
-
-            drawCentered(line1, titleY);
-            drawCentered(line2, titleY - gap);
+            drawCentered(clearTitle, clearTitleShadow, titleY);
+            drawCentered(clearHint, clearHintShadow, titleY - gap);
         } else {
-            font.draw(batch,
-                (world.state.paused ? "[PAUSED] " : "") +
-                    "Point: " + world.state.point +
-                    "   Level: " + world.state.currentLevel +
-                    "   [Z]double Jump! [X]Dash(cost : 1 point)  [R]Restart  [ESC/P]Pause",
-                cam.position.x - 380, cam.viewportHeight - 12);
+            font.draw(batch, hudLayout(), cam.position.x - 380, cam.viewportHeight - 12);
             if (shaking) {
-                font.draw(batch, "YOU DIE!", cam.position.x - 80, cam.viewportHeight - 32);
+                font.draw(batch, dieLayout, cam.position.x - 80, cam.viewportHeight - 32);
             }
         }
+        profiler.draw(batch, font, cam.position.x - 380, cam.viewportHeight - 52);
         batch.end();
+        frameRenderCalls += batch.renderCalls;
+        if (!world.state.cleared) frameRenderCalls += renderer.tiles.renderCalls;
+        reportRenderCalls(frameRenderCalls);
+        profiler.end(FrameProfiler.HUD);
+
+        if (debugShapes && !world.state.cleared) {
+            if (sr == null) sr = new ShapeRenderer();
+            sr.setProjectionMatrix(cam.combined);
+            renderer.drawDebug(sr, world);
+        }
+        profiler.endFrame(frameRenderCalls, batch);
+
+        if (startup.firstFrameMs() == 0) reportStartup();
+        if (allocCheck) checkAllocation();
     }
 
-    private void drawCentered(String text, float centerY) {
-        layout.setText(font, text);
-        float x = cam.position.x - layout.width / 2f;
-        font.setColor(0,0,0,0.9f);
-        font.draw(batch, layout, x + 1f, centerY - 1f);
-        font.setColor(1,1,1,1);
-        font.draw(batch, layout, x, centerY);
+    private void checkAllocation() {
+        long bytes = profiler.lastFrameAllocatedBytes();
+        if (bytes < 0) {
+            Gdx.app.error("alloc", "thread allocation counter not supported by this JVM");
+            allocCheck = false;
+            return;
+        }
+        if (++allocFrames <= ALLOC_WARMUP_FRAMES) return;
+        allocBytes += bytes;
+        allocMaxFrame = Math.max(allocMaxFrame, bytes);
+        if (allocFrames < ALLOC_WARMUP_FRAMES + ALLOC_CHECK_FRAMES) return;
+
+        allocCheck = false;
+        if (allocBytes > 0) {
+            throw new IllegalStateException("Steady-state frames allocated " + allocBytes + " bytes over "
+                + ALLOC_CHECK_FRAMES + " frames (max " + allocMaxFrame + " in one frame)");
+        }
+        Gdx.app.log("alloc", "0 bytes allocated over " + ALLOC_CHECK_FRAMES + " steady-state frames");
+        Gdx.app.exit();
+    }
+
+    // 점수/레벨/일시정지가 바뀐 프레임에만 문자열을 다시 만들고 배치한다
+    private GlyphLayout hudLayout() {
+        GameState s = world.state;
+        if (s.point != hudPoint || s.currentLevel != hudLevel || s.paused != hudPaused) {
+            hudPoint = s.point;
+            hudLevel = s.currentLevel;
+            hudPaused = s.paused;
+            hudText.setLength(0);
+            if (s.paused) hudText.append("[PAUSED] ");
+            hudText.append("Point: ").append(s.point).append("   Level: ").append(s.currentLevel).append(HUD_KEYS);
+            hudLayout.setText(font, hudText);
+        }
+        return hudLayout;
+    }
+
+    // 글자와 그림자는 색이 배치에 들어가므로 따로 만든다
+    private void setText(GlyphLayout text, GlyphLayout shadow, String str) {
+        text.setText(font, str, TEXT, 0f, Align.left, false);
+        shadow.setText(font, str, TEXT_SHADOW, 0f, Align.left, false);
+    }
+
+    // 아틀라스로 묶이면 정적 캐시 1회 + 배치(아틀라스, 글꼴) 2회여야 한다
+    private void reportRenderCalls(int calls) {
+        if (calls == frameCallsLogged) return;
+        frameCallsLogged = calls;
+        Gdx.app.log("render", "draw calls per frame: " + calls + (Assets.isPacked() ? " (atlas)" : " (separate textures)"));
+    }
+
+    private void dumpProfile() {
+        try {
+            java.io.File file = Gdx.files.local("frame-profile.csv").file();
+            profiler.writeCsv(file);
+            Gdx.app.log("profile", "wrote " + profiler.frameCount() + " frames to " + file.getPath());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void drawCentered(GlyphLayout text, GlyphLayout shadow, float centerY) {
+        float x = cam.position.x - text.width / 2f;
+        font.draw(batch, shadow, x + 1f, centerY - 1f);
+        font.draw(batch, text, x, centerY);
     }
 
     private void drawCrownedHeroLeft() {
@@ -244,88 +506,39 @@ public class Main extends ApplicationAdapter {
         float baseY = 120f;
         float w = 22f, h = 28f;
 
-        sr.setColor(Color.SKY);
-        sr.rect(baseX, baseY, w, h);
+        renderer.fillRect(batch, baseX, baseY, w, h, Color.SKY);
 
         Color crown = Color.GOLD;
         float crownW = w + 6f, crownH = 6f;
         float crownX = baseX - 3f;
         float crownY = baseY + h + 6f;
 
-        sr.setColor(crown);
-        sr.rect(crownX, crownY, crownW, crownH);
+        renderer.fillRect(batch, crownX, crownY, crownW, crownH, crown);
 
         float spikeH = 10f;
         float midX   = crownX + crownW / 2f;
         float topY   = crownY + crownH + spikeH;
-        sr.triangle(crownX + 3f, crownY + crownH, (crownX + midX)/2f, topY, midX, crownY + crownH);
-        sr.triangle(midX, crownY + crownH, (midX + crownX + crownW - 3f)/2f, topY, crownX + crownW - 3f, crownY + crownH);
-        sr.triangle(crownX + crownW*0.33f, crownY + crownH, midX, topY + 4f, crownX + crownW*0.66f, crownY + crownH);
+        renderer.fillTriangle(batch, crownX + 3f, crownY + crownH, (crownX + midX)/2f, topY, midX, crownY + crownH, crown);
+        renderer.fillTriangle(batch, midX, crownY + crownH, (midX + crownX + crownW - 3f)/2f, topY, crownX + crownW - 3f, crownY + crownH, crown);
+        renderer.fillTriangle(batch, crownX + crownW*0.33f, crownY + crownH, midX, topY + 4f, crownX + crownW*0.66f, crownY + crownH, crown);
 
-        sr.setColor(Color.SCARLET);
-        sr.rect(midX - 2f, crownY + crownH + 2f, 4f, 6f);
+        renderer.fillRect(batch, midX - 2f, crownY + crownH + 2f, 4f, 6f, Color.SCARLET);
     }
 
-    //GIF 유틸
-    private void loadClearGif(String internalPath) {
-        try {
-            InputStream in = Gdx.files.internal(internalPath).read();
-            ImageInputStream iis = new MemoryCacheImageInputStream(in);
-            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
-            if (!readers.hasNext()) return;
-            ImageReader reader = readers.next();
-            reader.setInput(iis, false);
-
-            clearGifTextures = new com.badlogic.gdx.utils.Array<>();
-            clearGifRegions  = new com.badlogic.gdx.utils.Array<>();
-
-            int num = reader.getNumImages(true);
-            for (int i = 0; i < num; i++) {
-                BufferedImage bi = reader.read(i);
-                Texture tex = bufferedImageToTexture(bi);
-                clearGifTextures.add(tex);
-                clearGifRegions.add(new TextureRegion(tex));
-            }
-            reader.dispose();
-            in.close();
-        } catch (Exception e) {
-            e.printStackTrace();
-            clearGifTextures = null;
-            clearGifRegions = null;
-        }
-    }
-
-    private TextureRegion getGifFrame(float elapsed) {
-        if (clearGifRegions == null || clearGifRegions.size == 0) return null;
-        int idx = (int)(elapsed / clearGifFrameDuration) % clearGifRegions.size;
-        return clearGifRegions.get(idx);
-    }
-
-    private Texture bufferedImageToTexture(BufferedImage img) {
-        int w = img.getWidth(), h = img.getHeight();
-        com.badlogic.gdx.graphics.Pixmap px = new com.badlogic.gdx.graphics.Pixmap(w, h, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-        int[] data = new int[w*h];
-        img.getRGB(0, 0, w, h, data, 0, w);
-        int k = 0;
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                int p = data[k++];
-                int a = (p>>24)&0xff, r=(p>>16)&0xff, g=(p>>8)&0xff, b=(p)&0xff;
-                px.drawPixel(x, h-1-y, Color.rgba8888(r/255f, g/255f, b/255f, a/255f));
+    @Override public void dispose() {
+        if (recordFile != null && fixedStep) {
+            try {
+                Gdx.files.local(recordFile).writeBytes(recorder.toBytes(), false);
+            } catch (Exception e) {
+                e.printStackTrace();
             }
         }
-        Texture t = new Texture(px);
-        px.dispose();
-        return t;
-    }
-
-    @Override public void dispose() {
-        sr.dispose();
+        if (sr != null) sr.dispose();
         batch.dispose();
         font.dispose();
+        renderer.dispose();
         Assets.dispose();
-        if (clearGifTextures != null) {
-            for (Texture t : clearGifTextures) if (t != null) t.dispose();
-        }
+        assets.dispose();
+        clearGif.dispose();
     }
 }
@@ -0,0 +1,19 @@
+package io.github.some_example_name;
+
+/** 한 틱 동안의 플레이어 입력. left/right는 누르고 있는 상태, jump/dash는 이번 틱에 눌린 것. */
+public class PlayerInput {
+    public boolean left, right;
+    public boolean jump, dash;
+
+    public PlayerInput set(boolean left, boolean right, boolean jump, boolean dash) {
+        this.left = left;
+        this.right = right;
+        this.jump = jump;
+        this.dash = dash;
+        return this;
+    }
+
+    public void clear() {
+        left = right = jump = dash = false;
+    }
+}
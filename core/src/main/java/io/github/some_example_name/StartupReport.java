@@ -0,0 +1,82 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.assets.AssetManager;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 콜드 스타트 측정: JVM 시작 -> create() -> 에셋별 로드 완료 -> 첫 게임 프레임.
+ * 시간은 모두 JVM 시작 기준 ms. 결과는 로그 한 줄과(원하면) CSV 파일 한 줄.
+ */
+public class StartupReport {
+    private final long jvmStartMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final long createMs;
+
+    private String[] assetPaths = new String[0];
+    private long[] assetDoneMs = new long[0];
+    private long assetsStartMs, assetsDoneMs, firstFrameMs;
+
+    public StartupReport() {
+        createMs = sinceJvmStart();
+    }
+
+    private long sinceJvmStart() {
+        return System.currentTimeMillis() - jvmStartMs;
+    }
+
+    /** 에셋 로딩 시작. paths는 요청 순서(AssetManager는 이 순서대로 하나씩 로드). */
+    public void assetsQueued(String[] paths) {
+        assetPaths = paths;
+        assetDoneMs = new long[paths.length];
+        assetsStartMs = sinceJvmStart();
+    }
+
+    /** 로딩 중 매 프레임: 새로 끝난 에셋의 완료 시각을 적는다. */
+    public void poll(AssetManager manager) {
+        long now = sinceJvmStart();
+        for (int i = 0; i < assetPaths.length; i++) {
+            if (assetDoneMs[i] == 0 && manager.isLoaded(assetPaths[i])) assetDoneMs[i] = now;
+        }
+    }
+
+    public void assetsDone() {
+        assetsDoneMs = sinceJvmStart();
+    }
+
+    public void firstFrame() {
+        firstFrameMs = sinceJvmStart();
+    }
+
+    public long firstFrameMs() {
+        return firstFrameMs;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("startup: create ").append(createMs).append("ms");
+        sb.append(", assets ").append(assetsStartMs).append("-").append(assetsDoneMs).append("ms");
+        sb.append(", first frame ").append(firstFrameMs).append("ms (since JVM start)");
+        long prev = assetsStartMs;
+        for (int i = 0; i < assetPaths.length; i++) {
+            sb.append("\n  ").append(assetPaths[i]).append(": ").append(assetDoneMs[i] - prev).append("ms");
+            prev = Math.max(prev, assetDoneMs[i]);
+        }
+        return sb.toString();
+    }
+
+    /** CSV 한 줄 추가(처음이면 헤더도). 빌드마다 돌려 추이를 보는 용도. */
+    public void appendCsv(File file) throws IOException {
+        boolean header = !file.isFile();
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory()) dir.mkdirs();
+        try (Writer out = new FileWriter(file, true)) {
+            if (header) out.write("timestamp,create_ms,assets_start_ms,assets_done_ms,first_frame_ms\n");
+            out.write(System.currentTimeMillis() + "," + createMs + "," + assetsStartMs + "," + assetsDoneMs + "," + firstFrameMs + "\n");
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+
+/**
+ * 정적 타일을 SpriteCache에 한 번 올려 두고 매 프레임 캐시 id만 그린다.
+ * 맵을 화면 폭(REGION_COLS 열) 단위 구역으로 나눠서, 블록이 부서지면 그 구역만 다시 만든다.
+ * 구역이 그 캐시 id의 한도보다 커지면(스트리밍으로 청크가 들어온 경우 등) 그 구역만 캐시 끝에 새로 만들고
+ * 옛 자리는 버린다. 버린 자리까지 용량이 차면 그때 전체를 다시 만들어 압축한다. 한도 계산은 CacheSlots.
+ * 이동 블록은 넣지 않는다(WorldRenderer가 SpriteBatch로 그림).
+ */
+public class StaticTileCache implements GameWorld.Listener, Disposable {
+    public static final int REGION_COLS = Math.max(1, Constants.V_WIDTH / Constants.TILE);
+
+    private static final Block.Type[] TYPES = Block.Type.values();
+
+    private SpriteCache cache;
+    private final CacheSlots slots = new CacheSlots();
+
+    private int regionCount;
+    private int[] cacheIds = new int[0];        // 구역별 캐시 id, 없으면 -1
+    private int[] cacheSizes = new int[0];      // 구역별 타일 수
+    private boolean[] dirty = new boolean[0];
+    private boolean dirtyAll = true;
+
+    private final BlockList scratch = new BlockList();
+
+    /** 마지막 draw에서 그린 구역 / 정적 타일 수, 다시 만든 구역 수(누적). */
+    public int drawnRegions, drawnTiles;
+    public int rebuiltRegions;
+
+    /** 마지막 draw의 SpriteCache 드로우 콜 수. */
+    public int renderCalls;
+
+    public static int regionOf(int gx) {
+        return gx / REGION_COLS;
+    }
+
+    @Override
+    public void levelLoaded(GameWorld world) {
+        dirtyAll = true;
+    }
+
+    @Override
+    public void blockBroken(GameWorld world, Block b) {
+        if (!b.moving) markDirty(b.gx, b.gx + 1);
+    }
+
+    @Override
+    public void columnsChanged(GameWorld world, int x0, int x1) {
+        markDirty(x0, x1);
+    }
+
+    private void markDirty(int x0, int x1) {
+        if (dirtyAll) return;
+        int r1 = Math.min(regionCount - 1, regionOf(Math.max(0, x1 - 1)));
+        for (int r = Math.max(0, regionOf(x0)); r <= r1; r++) dirty[r] = true;
+    }
+
+    /** 카메라에 걸치는 구역의 정적 타일을 그린다. SpriteBatch 바깥(begin/end 사이 아님)에서 호출. */
+    public void draw(OrthographicCamera cam, GameWorld world) {
+        update(world);
+        drawnRegions = 0;
+        drawnTiles = 0;
+        renderCalls = 0;
+        if (cache == null || regionCount == 0) return;
+
+        float halfW = cam.viewportWidth * cam.zoom / 2f;
+        int r0 = Math.max(0, regionOf(BlockGrid.cellOf(cam.position.x - halfW)));
+        int r1 = Math.min(regionCount - 1, regionOf(BlockGrid.cellOf(cam.position.x + halfW)));
+
+        cache.setProjectionMatrix(cam.combined);
+        cache.begin();
+        for (int r = r0; r <= r1; r++) {
+            if (cacheIds[r] < 0) continue;
+            cache.draw(cacheIds[r]);
+            drawnRegions++;
+            drawnTiles += cacheSizes[r];
+        }
+        cache.end();
+        renderCalls = cache.renderCalls;
+    }
+
+    // 더러운 구역 다시 만들기. id 한도(SpriteCache 제약)를 넘게 커진 구역은 끝에 새로 만든다
+    private void update(GameWorld world) {
+        if (!dirtyAll) {
+            for (int r = 0; r < regionCount; r++) {
+                if (!dirty[r]) continue;
+                dirty[r] = false;
+                int n = collect(world, r);
+                if (slots.fits(cacheIds[r], n)) {
+                    cache.beginCache(cacheIds[r]);
+                    addTiles();
+                    cache.endCache();
+                    slots.redefined(cacheIds[r], n);
+                    cacheSizes[r] = n;
+                    rebuiltRegions++;
+                } else if (n > 0) {
+                    if (!slots.canAdd(n)) {
+                        dirtyAll = true;
+                        break;
+                    }
+                    addRegion(r, n);
+                }
+            }
+        }
+        if (dirtyAll) rebuildAll(world);
+    }
+
+    private void rebuildAll(GameWorld world) {
+        dirtyAll = false;
+        regionCount = (world.widthTiles + REGION_COLS - 1) / REGION_COLS;
+        if (cacheIds.length < regionCount) {
+            cacheIds = new int[regionCount];
+            cacheSizes = new int[regionCount];
+            dirty = new boolean[regionCount];
+        }
+        Arrays.fill(cacheIds, -1);
+        Arrays.fill(cacheSizes, 0);
+        Arrays.fill(dirty, false);
+
+        // 구역을 새로 만들 여유(절반)를 남긴다
+        int total = world.blocks.size - world.blocks.movingCount;
+        int need = total + total / 2;
+        if (cache == null || slots.capacity() < need) {
+            if (cache != null) cache.dispose();
+            int capacity = Math.max(1024, total * 2);
+            cache = new SpriteCache(capacity, false);
+            slots.reset(capacity);
+        } else {
+            cache.clear();
+            slots.reset(slots.capacity());
+        }
+
+        for (int r = 0; r < regionCount; r++) {
+            int n = collect(world, r);
+            if (n > 0) addRegion(r, n);
+        }
+    }
+
+    // scratch(구역 r, n개)로 캐시 끝에 새 캐시를 만든다. 옛 id가 있었으면 그 자리는 버려진다
+    private void addRegion(int r, int n) {
+        cache.beginCache();
+        addTiles();
+        cacheIds[r] = cache.endCache();
+        cacheSizes[r] = n;
+        slots.added(cacheIds[r], n);
+        rebuiltRegions++;
+    }
+
+    // 구역 r의 정적 블록(텍스처 있는 것만)을 scratch에 담는다
+    private int collect(GameWorld world, int r) {
+        scratch.clear();
+        BlockGrid grid = world.grid;
+        int x0 = r * REGION_COLS;
+        int x1 = Math.min(grid.width(), x0 + REGION_COLS);
+        for (int gx = x0; gx < x1; gx++) {
+            if (!grid.hasColumn(gx)) continue;
+            for (int gy = 0; gy < grid.height(); gy++) {
+                int idx = grid.get(gx, gy);
+                if (idx == BlockGrid.EMPTY) continue;
+                if (WorldRenderer.regionFor(world.blocks.type(idx)) != null) scratch.add(world.blocks, idx);
+            }
+        }
+        return scratch.size;
+    }
+
+    // 종류별로 묶어 넣는다. 아틀라스가 없을 때(텍스처가 따로따로)도 캐시 안 텍스처 전환이 종류 수만큼만 생긴다
+    private void addTiles() {
+        for (Block.Type t : TYPES) {
+            TextureRegion region = WorldRenderer.regionFor(t);
+            if (region == null) continue;
+            for (int i = 0; i < scratch.size; i++) {
+                Block b = scratch.get(i);
+                if (b.type != t) continue;
+                cache.add(region, b.px, b.py, Constants.TILE, Constants.TILE);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) cache.dispose();
+        cache = null;
+        slots.reset(0);
+        regionCount = 0;
+        dirtyAll = true;
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * x축 sweep-and-prune 브로드페이즈. 물체 id(0..)를 왼쪽 x 기준으로 정렬해 두고,
+ * 매 틱 update()에서 삽입 정렬로 다시 맞춘다. 물체는 틱마다 조금씩만 움직이므로 거의 O(n)이다.
+ *
+ * 좌표 배열은 소유자(BlockStore 등)가 id로 인덱싱해서 넘긴다. 물체 크기는 모두 같다고 본다(w, h).
+ */
+public final class SweepAndPrune {
+    private final float w, h;
+
+    private int count;
+    private int[] order = new int[16];      // 정렬된 자리 -> id
+    private int[] rank = new int[16];       // id -> 정렬된 자리
+
+    public SweepAndPrune(float width, float height) {
+        this.w = width;
+        this.h = height;
+    }
+
+    public int size()          { return count; }
+    public int idAt(int pos)   { return order[pos]; }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** o와 같은 정렬 상태로 만든다(크기 w, h는 같다고 본다). */
+    public void set(SweepAndPrune o) {
+        if (order.length < o.count) {
+            order = new int[o.order.length];
+            rank = new int[o.rank.length];
+        }
+        count = o.count;
+        System.arraycopy(o.order, 0, order, 0, count);
+        System.arraycopy(o.rank, 0, rank, 0, count);
+    }
+
+    /** id 추가(id는 지금 size()와 같아야 한다). */
+    public void add(int id, float[] x) {
+        if (count == order.length) {
+            order = Arrays.copyOf(order, count * 2);
+            rank = Arrays.copyOf(rank, count * 2);
+        }
+        order[count] = id;
+        rank[id] = count;
+        count++;
+        siftDown(count - 1, x);
+    }
+
+    /** id 제거. 마지막 id가 빈 번호로 옮겨 오면 그 뒤에 rename(last, id)를 부른다. */
+    public void remove(int id) {
+        int pos = rank[id];
+        System.arraycopy(order, pos + 1, order, pos, count - pos - 1);
+        count--;
+        for (int p = pos; p < count; p++) rank[order[p]] = p;
+    }
+
+    public void rename(int from, int to) {
+        int pos = rank[from];
+        order[pos] = to;
+        rank[to] = pos;
+    }
+
+    /** 좌표가 바뀐 뒤 정렬 복구(삽입 정렬, 같은 값은 기존 순서 유지). */
+    public void update(float[] x) {
+        for (int i = 1; i < count; i++) {
+            if (x[order[i - 1]] > x[order[i]]) siftDown(i, x);
+        }
+    }
+
+    private void siftDown(int i, float[] x) {
+        int id = order[i];
+        float v = x[id];
+        int j = i;
+        while (j > 0 && x[order[j - 1]] > v) {
+            order[j] = order[j - 1];
+            rank[order[j]] = j;
+            j--;
+        }
+        order[j] = id;
+        rank[id] = j;
+    }
+
+    /** 왼쪽 x가 minX - w 이상인 첫 자리(이보다 앞은 [minX, ...) 구간과 겹칠 수 없다). */
+    public int lowerBound(float minX, float[] x) {
+        float key = minX - w;
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (x[order[mid]] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** (qx, qy, qw, qh)와 닿거나 겹치는 물체 id를 out에 추가. 경계 접촉도 포함(격자 질의와 같은 여유). */
+    public void query(float qx, float qy, float qw, float qh, float[] x, float[] y, IntArray out) {
+        for (int p = lowerBound(qx, x); p < count; p++) {
+            int id = order[p];
+            float bx = x[id];
+            if (bx > qx + qw) break;
+            if (bx + w < qx) continue;
+            float by = y[id];
+            if (by > qy + qh || by + h < qy) continue;
+            out.add(id);
+        }
+    }
+
+    /** 서로 겹치는(경계 접촉 제외) 물체 쌍을 out에 (a, b) 순서로 추가. 반환값은 쌍 수. */
+    public int pairs(float[] x, float[] y, IntArray out) {
+        int n = 0;
+        for (int p = 0; p < count; p++) {
+            int a = order[p];
+            float ax = x[a], ay = y[a];
+            for (int q = p + 1; q < count; q++) {
+                int b = order[q];
+                if (x[b] >= ax + w) break;
+                float by = y[b];
+                if (by < ay + h && by + h > ay) {
+                    out.add(a);
+                    out.add(b);
+                    n++;
+                }
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.some_example_name;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Tiled(.tmx) 맵 -> LevelData. XML은 StAX로 흘려 읽고, 타일 레이어(base64 + zlib/gzip)는 바로 풀어서 처리한다.
+ *
+ * 타일 속성: blocked -> SOLID, blocked + smashable -> BREAKABLE, coinblock -> BREAKABLE(깨면 점수).
+ * 오브젝트 그룹: Ground/Pipes -> SOLID, Bricks/Coins -> BREAKABLE, Goal -> GOAL. 나머지 그룹은 무시.
+ * TMX 타일 한 칸이 게임 타일 한 칸(Constants.TILE)에 대응한다.
+ */
+public final class TmxLevelLoader {
+    private TmxLevelLoader() {}
+
+    /** 변환 규칙 버전. 타일/오브젝트 -> 블록 대응을 바꾸면 올린다(LevelCache의 옛 캐시 무효화). */
+    public static final int VERSION = 1;
+
+    private static final long GID_FLAGS = 0xE0000000L;   // 뒤집기 플래그
+
+    public static LevelData load(InputStream in) throws IOException {
+        XMLStreamReader xml = null;
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            xml = factory.createXMLStreamReader(in, "UTF-8");
+            return read(xml);
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed TMX", e);
+        } finally {
+            if (xml != null) {
+                try { xml.close(); } catch (XMLStreamException ignored) { }
+            }
+        }
+    }
+
+    private static LevelData read(XMLStreamReader xml) throws XMLStreamException, IOException {
+        int width = 0, height = 0, tileW = 16, tileH = 16;
+        byte[] tiles = null;
+
+        Map<Integer, Block.Type> gidTypes = new HashMap<>();
+        int firstGid = 1;
+        int tileId = -1;
+        boolean blocked = false, smashable = false, coin = false;
+        Block.Type groupType = null;
+
+        while (xml.hasNext()) {
+            int ev = xml.next();
+            if (ev == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("map".equals(name)) {
+                    width  = intAttr(xml, "width", 0);
+                    height = intAttr(xml, "height", 0);
+                    tileW  = intAttr(xml, "tilewidth", 16);
+                    tileH  = intAttr(xml, "tileheight", 16);
+                    tiles  = new byte[width * height];
+                } else if ("tileset".equals(name)) {
+                    firstGid = intAttr(xml, "firstgid", 1);
+                } else if ("tile".equals(name)) {
+                    tileId = intAttr(xml, "id", -1);
+                    blocked = smashable = coin = false;
+                } else if ("property".equals(name) && tileId >= 0) {
+                    String p = xml.getAttributeValue(null, "name");
+                    if ("blocked".equals(p)) blocked = true;
+                    else if ("smashable".equals(p)) smashable = true;
+                    else if ("coinblock".equals(p)) coin = true;
+                } else if ("data".equals(name)) {
+                    String encoding = xml.getAttributeValue(null, "encoding");
+                    String compression = xml.getAttributeValue(null, "compression");
+                    if (!"base64".equals(encoding)) {
+                        throw new IOException("Unsupported TMX layer encoding: " + encoding + " (save maps as Base64)");
+                    }
+                    if (tiles != null) readLayer(xml.getElementText(), compression, width, height, gidTypes, tiles);
+                } else if ("objectgroup".equals(name)) {
+                    groupType = groupType(xml.getAttributeValue(null, "name"));
+                } else if ("object".equals(name) && groupType != null && tiles != null) {
+                    fillObject(xml, groupType, tileW, tileH, width, height, tiles);
+                }
+            } else if (ev == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("tile".equals(name) && tileId >= 0) {
+                    Block.Type t = coin ? Block.Type.BREAKABLE
+                        : blocked ? (smashable ? Block.Type.BREAKABLE : Block.Type.SOLID)
+                        : null;
+                    if (t != null) gidTypes.put(firstGid + tileId, t);
+                    tileId = -1;
+                } else if ("objectgroup".equals(name)) {
+                    groupType = null;
+                }
+            }
+        }
+        if (tiles == null) throw new IOException("TMX has no <map> element");
+        return new LevelData(width, height, tiles);
+    }
+
+    private static Block.Type groupType(String name) {
+        if (name == null) return null;
+        switch (name.toLowerCase()) {
+            case "ground":
+            case "pipes":  return Block.Type.SOLID;
+            case "bricks":
+            case "coins":  return Block.Type.BREAKABLE;
+            case "goal":   return Block.Type.GOAL;
+            default:       return null;
+        }
+    }
+
+    // 타일 레이어: gid(4바이트 LE) 스트림을 풀면서 속성 있는 타일만 격자에 기록
+    private static void readLayer(String text, String compression, int width, int height,
+                                  Map<Integer, Block.Type> gidTypes, byte[] tiles) throws IOException {
+        InputStream raw = new ByteArrayInputStream(Base64.getMimeDecoder().decode(text.trim()));
+        if ("zlib".equals(compression)) raw = new InflaterInputStream(raw);
+        else if ("gzip".equals(compression)) raw = new GZIPInputStream(raw);
+        else if (compression != null && !compression.isEmpty()) {
+            throw new IOException("Unsupported TMX layer compression: " + compression);
+        }
+
+        DataInputStream in = new DataInputStream(raw);
+        byte[] gid = new byte[4];
+        for (int row = 0; row < height; row++) {
+            int gy = height - 1 - row;
+            for (int gx = 0; gx < width; gx++) {
+                in.readFully(gid);
+                long id = (gid[0] & 0xffL) | (gid[1] & 0xffL) << 8 | (gid[2] & 0xffL) << 16 | (gid[3] & 0xffL) << 24;
+                if (id == 0) continue;
+                Block.Type t = gidTypes.get((int) (id & ~GID_FLAGS));
+                if (t != null) tiles[gy * width + gx] = LevelData.codeOf(t);
+            }
+        }
+        in.close();
+    }
+
+    // 오브젝트 사각형(픽셀, y는 아래로)이 덮는 칸을 채운다
+    private static void fillObject(XMLStreamReader xml, Block.Type type, int tileW, int tileH,
+                                   int width, int height, byte[] tiles) {
+        float x = floatAttr(xml, "x"), y = floatAttr(xml, "y");
+        float w = floatAttr(xml, "width"), h = floatAttr(xml, "height");
+        if (w <= 0f) w = tileW;
+        if (h <= 0f) h = tileH;
+
+        int c0 = Math.max(0, (int) Math.floor(x / tileW));
+        int c1 = Math.min(width - 1, (int) Math.ceil((x + w) / tileW) - 1);
+        int r0 = Math.max(0, (int) Math.floor(y / tileH));
+        int r1 = Math.min(height - 1, (int) Math.ceil((y + h) / tileH) - 1);
+        byte code = LevelData.codeOf(type);
+        for (int row = r0; row <= r1; row++) {
+            int gy = height - 1 - row;
+            for (int gx = c0; gx <= c1; gx++) tiles[gy * width + gx] = code;
+        }
+    }
+
+    private static int intAttr(XMLStreamReader xml, String name, int def) {
+        String v = xml.getAttributeValue(null, name);
+        return v == null ? def : Integer.parseInt(v.trim());
+    }
+
+    private static float floatAttr(XMLStreamReader xml, String name) {
+        String v = xml.getAttributeValue(null, name);
+        return v == null ? 0f : Float.parseFloat(v.trim());
+    }
+}
@@ -0,0 +1,319 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * 트리거 영역(골, 독, 이후 체크포인트/코인 등). 막지는 않고 플레이어가 들어오고(enter) 머무르고(stay)
+ * 나가는(exit) 것만 틱마다 알린다.
+ *
+ * 영역은 id(0..)로 다루고 지우면 id를 다시 쓴다. 공간 색인은 x 방향 칸(CELL px) 버킷이다. 영역은 왼쪽 x가 든 칸의
+ * 양방향 연결 리스트에 들어가고, 질의는 [x - 가장 넓은 영역 폭, x + w] 칸만 본다. 이동 영역은 move()로 칸을 옮긴다.
+ *
+ * 블록에서 나온 영역(GOAL/POISON/POISON_MOVING)은 BlockStore의 블록별 trigger id로 이어져 있어서
+ * 블록이 추가/제거/이동하면 GameWorld가 따라 고친다. 레벨을 새로 만들면(set/reset) 겹침 상태도 exit 없이 비워진다.
+ *
+ * update()와 알림은 할당하지 않는다. 리스너가 알림 중에 remove()하면 알림이 끝난 뒤 지운다.
+ */
+public final class TriggerVolumes {
+    public enum Kind {
+        GOAL,   // 다음 스테이지
+        KILL    // 죽음(독)
+    }
+
+    /** 겹침 변화 알림. 시뮬레이션 스레드에서 update() 안에서 불린다. */
+    public interface Listener {
+        void enter(TriggerVolumes triggers, int id);
+
+        // 이전 틱에 이어 이번 틱에도 겹침
+        void stay(TriggerVolumes triggers, int id);
+
+        void exit(TriggerVolumes triggers, int id);
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final int NONE = -1;
+    static final int CELL = 4 * Constants.TILE;
+
+    // 영역 0..count-1(지운 것은 kind == NONE, 빈 id는 free에)
+    private int count;
+    private float[] x = new float[16], y = new float[16], w = new float[16], h = new float[16];
+    private byte[] kind = new byte[16];
+    private final IntArray free = new IntArray(false, 16);
+    private float maxW;
+
+    // 칸 버킷: head[칸] -> 첫 id, next/prev로 연결, cell[id] = 들어 있는 칸
+    private int cells;
+    private int[] head = new int[0];
+    private int[] next = new int[16], prev = new int[16], cell = new int[16];
+
+    // 겹침 추적: inside[id]는 지난 update에서 겹쳤는지, overlaps는 그 id 목록(순서 유지)
+    private boolean[] inside = new boolean[16];
+    private int[] seen = new int[16];
+    private int stamp;
+    private IntArray overlaps = new IntArray(false, 8);
+    private IntArray found = new IntArray(false, 8);
+
+    private final Array<Listener> listeners = new Array<>(false, 4);
+    private boolean dispatching;
+    private final IntArray pendingRemove = new IntArray(false, 4);
+
+    /** 블록 종류에 대응하는 트리거 종류(트리거가 아니면 null). */
+    public static Kind kindOf(Block.Type t) {
+        switch (t) {
+            case GOAL:          return Kind.GOAL;
+            case POISON:
+            case POISON_MOVING: return Kind.KILL;
+            default:            return null;
+        }
+    }
+
+    /** 비우고 widthTiles 폭 맵에 맞춰 버킷을 다시 잡는다. */
+    public void reset(int widthTiles) {
+        count = 0;
+        maxW = 0f;
+        free.clear();
+        cells = Math.max(1, (widthTiles * Constants.TILE + CELL - 1) / CELL);
+        if (head.length < cells) head = new int[cells];
+        Arrays.fill(head, 0, cells, NONE);
+        overlaps.clear();
+        pendingRemove.clear();
+    }
+
+    public void clear() {
+        reset(0);
+    }
+
+    /** o와 같은 내용(영역, 색인, 겹침 상태)으로 만든다. 리스너는 그대로. */
+    public void set(TriggerVolumes o) {
+        ensureCapacity(o.count);
+        count = o.count;
+        maxW = o.maxW;
+        System.arraycopy(o.x, 0, x, 0, count);
+        System.arraycopy(o.y, 0, y, 0, count);
+        System.arraycopy(o.w, 0, w, 0, count);
+        System.arraycopy(o.h, 0, h, 0, count);
+        System.arraycopy(o.kind, 0, kind, 0, count);
+        System.arraycopy(o.next, 0, next, 0, count);
+        System.arraycopy(o.prev, 0, prev, 0, count);
+        System.arraycopy(o.cell, 0, cell, 0, count);
+        System.arraycopy(o.inside, 0, inside, 0, count);
+        free.clear();
+        free.addAll(o.free);
+
+        cells = o.cells;
+        if (head.length < cells) head = new int[cells];
+        System.arraycopy(o.head, 0, head, 0, cells);
+        overlaps.clear();
+        overlaps.addAll(o.overlaps);
+        pendingRemove.clear();
+    }
+
+    public void addListener(Listener l) {
+        if (!listeners.contains(l, true)) listeners.add(l);
+    }
+
+    public void removeListener(Listener l) {
+        listeners.removeValue(l, true);
+    }
+
+    // ===== 영역 =====
+
+    /** 영역 추가. 반환값은 id. */
+    public int add(Kind k, float px, float py, float pw, float ph) {
+        int id;
+        if (free.size > 0) {
+            id = free.pop();
+        } else {
+            ensureCapacity(count + 1);
+            id = count++;
+        }
+        x[id] = px;
+        y[id] = py;
+        w[id] = pw;
+        h[id] = ph;
+        kind[id] = (byte) k.ordinal();
+        inside[id] = false;
+        maxW = Math.max(maxW, pw);
+        link(id, cellOf(px));
+        return id;
+    }
+
+    /** 블록 i가 트리거 종류면 영역을 만들고 블록에 id를 적는다. */
+    public void addBlock(BlockStore blocks, int i) {
+        Kind k = kindOf(blocks.type(i));
+        if (k == null) return;
+        blocks.setTrigger(i, add(k, blocks.x(i), blocks.y(i), Constants.TILE, Constants.TILE));
+    }
+
+    /** 영역 제거(겹쳐 있었어도 exit는 보내지 않는다). 알림 중이면 알림이 끝난 뒤 지운다. */
+    public void remove(int id) {
+        if (!isAlive(id)) return;
+        if (dispatching) {
+            pendingRemove.add(id);
+            return;
+        }
+        unlink(id);
+        kind[id] = NONE;
+        if (inside[id]) {
+            inside[id] = false;
+            overlaps.removeValue(id);
+        }
+        free.add(id);
+    }
+
+    /** 이동 영역 위치 갱신. */
+    public void move(int id, float px, float py) {
+        x[id] = px;
+        y[id] = py;
+        int c = cellOf(px);
+        if (c != cell[id]) {
+            unlink(id);
+            link(id, c);
+        }
+    }
+
+    /** 이동 블록에 붙은 영역을 블록 위치로 옮긴다. updateMoving 뒤 매 틱. */
+    public void syncMoving(BlockStore blocks) {
+        for (int k = 0; k < blocks.movingCount; k++) {
+            int id = blocks.trigger(blocks.movingBlock(k));
+            if (id != NONE) move(id, blocks.movingX(k), blocks.movingY(k));
+        }
+    }
+
+    public boolean isAlive(int id) { return id >= 0 && id < count && kind[id] != NONE; }
+
+    /** 영역 종류. 지웠거나 없는 id면 null. */
+    public Kind kind(int id) {
+        return isAlive(id) ? KINDS[kind[id]] : null;
+    }
+
+    /** 지난 update에서 플레이어와 겹쳤는지. 지웠거나 없는 id면 false. */
+    public boolean isInside(int id) {
+        return isAlive(id) && inside[id];
+    }
+
+    // 위치/크기는 살아 있는 id만(isAlive). 지운 id는 다시 쓰일 수 있어서 값이 의미 없다
+    public float x(int id)         { assert isAlive(id) : id; return x[id]; }
+    public float y(int id)         { assert isAlive(id) : id; return y[id]; }
+    public float width(int id)     { assert isAlive(id) : id; return w[id]; }
+    public float height(int id)    { assert isAlive(id) : id; return h[id]; }
+
+    /** 살아 있는 영역 수. */
+    public int size() {
+        return count - free.size;
+    }
+
+    private void ensureCapacity(int n) {
+        if (x.length >= n) return;
+        int cap = Math.max(n, x.length * 2);
+        x = Arrays.copyOf(x, cap);
+        y = Arrays.copyOf(y, cap);
+        w = Arrays.copyOf(w, cap);
+        h = Arrays.copyOf(h, cap);
+        kind = Arrays.copyOf(kind, cap);
+        next = Arrays.copyOf(next, cap);
+        prev = Arrays.copyOf(prev, cap);
+        cell = Arrays.copyOf(cell, cap);
+        inside = Arrays.copyOf(inside, cap);
+        seen = Arrays.copyOf(seen, cap);
+    }
+
+    // ===== 색인 =====
+
+    private int cellOf(float px) {
+        return Math.max(0, Math.min(cells - 1, (int) Math.floor(px / CELL)));
+    }
+
+    private void link(int id, int c) {
+        cell[id] = c;
+        prev[id] = NONE;
+        next[id] = head[c];
+        if (head[c] != NONE) prev[head[c]] = id;
+        head[c] = id;
+    }
+
+    private void unlink(int id) {
+        int p = prev[id], n = next[id];
+        if (p != NONE) next[p] = n;
+        else head[cell[id]] = n;
+        if (n != NONE) prev[n] = p;
+    }
+
+    /** r과 겹치는(경계 접촉 제외) 영역 id를 out에 추가. 반환값은 검사한 영역 수. */
+    public int query(Rectangle r, IntArray out) {
+        int c0 = cellOf(r.x - maxW), c1 = cellOf(r.x + r.width);
+        int tested = 0;
+        for (int c = c0; c <= c1; c++) {
+            for (int id = head[c]; id != NONE; id = next[id]) {
+                tested++;
+                if (r.x < x[id] + w[id] && r.x + r.width > x[id]
+                    && r.y < y[id] + h[id] && r.y + r.height > y[id]) out.add(id);
+            }
+        }
+        return tested;
+    }
+
+    public boolean overlapsAny(Rectangle r) {
+        found.clear();
+        query(r, found);
+        return found.size > 0;
+    }
+
+    // ===== 겹침 추적 =====
+
+    /**
+     * r(플레이어)과의 겹침을 갱신하고 알린다: 빠진 영역 exit, 그다음 겹친 영역마다 enter 또는 stay(질의 순서).
+     * 반환값은 검사한 영역 수.
+     */
+    public int update(Rectangle r) {
+        return update(r, null);
+    }
+
+    /** a 또는 b(null이면 a만)와 겹치는 영역으로 update. 한 틱에 쓸고 지나간 길을 두 사각형으로 줄 때. */
+    public int update(Rectangle a, Rectangle b) {
+        found.clear();
+        int tested = query(a, found);
+        if (b != null) tested += query(b, found);
+        // 두 사각형에 다 걸린 영역은 한 번만
+        int s = ++stamp;
+        int n = 0;
+        for (int i = 0; i < found.size; i++) {
+            int id = found.get(i);
+            if (seen[id] == s) continue;
+            seen[id] = s;
+            found.set(n++, id);
+        }
+        found.size = n;
+
+        dispatching = true;
+        for (int i = 0; i < overlaps.size; i++) {
+            int id = overlaps.get(i);
+            if (seen[id] == s) continue;
+            inside[id] = false;
+            for (int l = 0; l < listeners.size; l++) listeners.get(l).exit(this, id);
+        }
+        for (int i = 0; i < found.size; i++) {
+            int id = found.get(i);
+            boolean was = inside[id];
+            inside[id] = true;
+            for (int l = 0; l < listeners.size; l++) {
+                if (was) listeners.get(l).stay(this, id);
+                else listeners.get(l).enter(this, id);
+            }
+        }
+        dispatching = false;
+
+        // 이번 겹침 목록이 다음 틱의 이전 목록
+        IntArray t = overlaps;
+        overlaps = found;
+        found = t;
+
+        for (int i = 0; i < pendingRemove.size; i++) remove(pendingRemove.get(i));
+        pendingRemove.clear();
+        return tested;
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/** GameWorld를 그리는 렌더 레이어. 시뮬레이션 쪽은 그래픽 클래스를 전혀 참조하지 않는다. */
+public class WorldRenderer {
+    private static final Color SLIPPERY_FALLBACK = new Color(0.94f, 0.94f, 0.94f, 1f);
+
+    // 화면 안 블록(cull 결과). 격자에서 보이는 칸만 훑으므로 맵 크기와 무관
+    private final BlockList visible = new BlockList();
+
+    /** 이번 프레임 화면과 겹친 블록 수 / 실제로 그린 블록 수(캐시된 정적 타일 포함). */
+    public int visibleBlocks;
+    public int drawnBlocks;
+
+    // 정적 타일은 attach 후 SpriteCache로, 이동 블록만 매 프레임 SpriteBatch로
+    public final StaticTileCache tiles = new StaticTileCache();
+    private boolean cached;
+
+    public void attach(GameWorld world) {
+        world.addListener(tiles);
+        tiles.levelLoaded(world);
+        cached = true;
+    }
+
+    public static TextureRegion regionFor(Block.Type type) {
+        switch (type) {
+            case SOLID:           return Assets.REGION_SOLID;
+            case BREAKABLE:       return Assets.REGION_BREAKABLE;
+            case GOAL:            return Assets.REGION_GOAL;
+            case POISON:          return Assets.REGION_POISON;
+            case POISON_MOVING:   return Assets.REGION_POISON_MOVING;
+            case SLIPPERY:        return Assets.REGION_SLIPPERY;
+        }
+        return null;
+    }
+
+    /** 카메라 영역과 겹치는 칸(+ 근처 이동 블록)만 골라 둔다. 프레임마다 그리기 전에 한 번. */
+    public void cull(OrthographicCamera cam, GameWorld world) {
+        float w = cam.viewportWidth * cam.zoom;
+        float h = cam.viewportHeight * cam.zoom;
+        cull(world, cam.position.x - w / 2f, cam.position.y - h / 2f, w, h);
+    }
+
+    public void cull(GameWorld world, float x, float y, float w, float h) {
+        // 이동 블록은 보간 위치로 그리므로 한 칸 여유
+        float m = Constants.TILE;
+        world.grid.query(x - m, y - m, w + 2 * m, h + 2 * m, world.blocks, visible);
+        visibleBlocks = visible.size;
+        drawnBlocks = 0;
+    }
+
+    /** 캐시된 정적 타일. SpriteBatch begin 전에 호출. */
+    public void drawStatic(OrthographicCamera cam, GameWorld world) {
+        if (!cached) return;
+        tiles.draw(cam, world);
+        drawnBlocks += tiles.drawnTiles;
+    }
+
+    // 타일 텍스처(있으면 사용). 캐시를 쓰면 이동 블록만
+    public void drawBlocks(SpriteBatch batch, GameWorld world, float alpha) {
+        for (int i = 0; i < visible.size; i++) {
+            Block b = visible.get(i);
+            if (cached && !b.moving) continue;
+            drawBlock(batch, b, alpha);
+        }
+    }
+
+    public void drawBlock(SpriteBatch batch, Block b, float alpha) {
+        TextureRegion region = regionFor(b.type);
+        if (region == null) return;
+        batch.draw(region, b.renderX(alpha), b.py, Constants.TILE, Constants.TILE);
+        drawnBlocks++;
+    }
+
+    // 텍스처가 없는 미끄럼 타일 + 테스트용 캐릭터. 흰 영역에 색을 입혀 같은 배치에서 그린다
+    public void drawShapes(SpriteBatch batch, GameWorld world, float alpha) {
+        if (Assets.REGION_SLIPPERY == null) {
+            for (int i = 0; i < visible.size; i++) {
+                Block b = visible.get(i);
+                if (b.type != Block.Type.SLIPPERY) continue;
+                fillRect(batch, b.px, b.py, Constants.TILE, Constants.TILE, SLIPPERY_FALLBACK);
+                drawnBlocks++;
+            }
+        }
+        drawPlayer(batch, world.player, alpha);
+    }
+
+    public void drawPlayer(SpriteBatch batch, GameCharacter p, float alpha) {
+        Color c = p.dashing ? Color.SCARLET : (p.grounded ? Color.SKY : Color.CYAN);
+        fillRect(batch, p.renderX(alpha), p.renderY(alpha), p.w, p.h, c);
+    }
+
+    // ===== 단색 도형(Assets.REGION_WHITE). 배치 색은 그린 뒤 흰색으로 돌려 둔다 =====
+
+    private final float[] triangle = new float[20];     // 꼭짓점 4개(x, y, color, u, v), 마지막은 셋째와 같게
+
+    public void fillRect(SpriteBatch batch, float x, float y, float w, float h, Color c) {
+        batch.setColor(c);
+        batch.draw(Assets.REGION_WHITE, x, y, w, h);
+        batch.setColor(Color.WHITE);
+    }
+
+    /** 알파가 있는 색. SpriteBatch는 기본으로 블렌딩을 켜 두므로 따로 GL 상태를 바꾸지 않는다. */
+    public void fillRect(SpriteBatch batch, float x, float y, float w, float h, float r, float g, float b, float a) {
+        batch.setColor(r, g, b, a);
+        batch.draw(Assets.REGION_WHITE, x, y, w, h);
+        batch.setColor(Color.WHITE);
+    }
+
+    // 한 꼭짓점이 겹친 사각형으로 그린다(SpriteBatch는 사각형 단위)
+    public void fillTriangle(SpriteBatch batch, float x1, float y1, float x2, float y2, float x3, float y3, Color c) {
+        TextureRegion white = Assets.REGION_WHITE;
+        float u = (white.getU() + white.getU2()) / 2f;
+        float v = (white.getV() + white.getV2()) / 2f;
+        float color = c.toFloatBits();
+        float[] t = triangle;
+        t[0] = x1;  t[1] = y1;  t[2] = color;  t[3] = u;  t[4] = v;
+        t[5] = x2;  t[6] = y2;  t[7] = color;  t[8] = u;  t[9] = v;
+        t[10] = x3; t[11] = y3; t[12] = color; t[13] = u; t[14] = v;
+        t[15] = x3; t[16] = y3; t[17] = color; t[18] = u; t[19] = v;
+        batch.draw(white.getTexture(), t, 0, 20);
+    }
+
+    /** 디버그용 외곽선: 화면 안 블록과 플레이어 충돌 상자. ShapeRenderer를 쓰는 건 여기뿐. */
+    public void drawDebug(ShapeRenderer sr, GameWorld world) {
+        sr.begin(ShapeRenderer.ShapeType.Line);
+        sr.setColor(Color.LIME);
+        for (int i = 0; i < visible.size; i++) {
+            Block b = visible.get(i);
+            sr.rect(b.px, b.py, Constants.TILE, Constants.TILE);
+        }
+        GameCharacter p = world.player;
+        sr.setColor(Color.RED);
+        sr.rect(p.pos.x, p.pos.y, p.w, p.h);
+        sr.end();
+    }
+
+    public void dispose() {
+        tiles.dispose();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.some_example_name;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** SpriteCache 한도 규칙(마지막 캐시는 다시 만들면 한도가 새 크기로 바뀐다). */
+public class CacheSlotsTest {
+    @Test
+    public void shrinkAddRegrow() {
+        CacheSlots slots = new CacheSlots();
+        slots.reset(100);
+        slots.added(0, 10);
+
+        // 마지막 캐시라서 줄이면 한도도 줄어든다(청크가 내려간 경우)
+        assertTrue(slots.fits(0, 4));
+        slots.redefined(0, 4);
+        assertEquals(4, slots.used());
+
+        // 다른 구역이 뒤에 생기면 0번은 더 이상 마지막이 아니다
+        slots.added(1, 10);
+        assertFalse("regrow past the shrunken limit must not redefine in place", slots.fits(0, 8));
+        assertTrue(slots.fits(0, 4));
+    }
+
+    @Test
+    public void newestCanGrowUpToCapacity() {
+        CacheSlots slots = new CacheSlots();
+        slots.reset(20);
+        slots.added(0, 5);
+        slots.added(1, 5);
+        assertTrue(slots.fits(1, 15));
+        assertFalse(slots.fits(1, 16));
+        slots.redefined(1, 15);
+        assertEquals(20, slots.used());
+        assertFalse(slots.canAdd(1));
+        assertFalse(slots.fits(0, 6));
+        assertFalse(slots.fits(-1, 0));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.some_example_name;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/** 외부 맵(행 문자열/LevelData)을 다시 읽어도 캐시에 중복으로 쌓이지 않는지. */
+public class CompiledLevelCacheTest {
+    private static final String[] ROWS = {
+        "          W",
+        "   BB      ",
+        "###########",
+    };
+
+    @Test
+    public void sameRowsHitCache() {
+        CompiledLevelCache cache = new CompiledLevelCache(4);
+        GameWorld world = new GameWorld(cache);
+        world.loadLevel(1);
+        for (int i = 0; i < 10; i++) {
+            world.loadLevel(ROWS);
+            world.restartLevel(true);
+        }
+        // 내장 1스테이지 + 외부 맵 한 벌
+        assertEquals(2, cache.size());
+        assertSame(cache.get(1), cache.get(Integer.valueOf(1)));
+        assertSame(cache.get(LevelData.fromRows(ROWS)), cache.get(LevelData.fromRows(ROWS.clone())));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.some_example_name;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** 작은 맵에서 도달/도달 불가/한도 초과를 구분하는지. */
+public class LevelCheckerTest {
+    private static final String[] OPEN = {
+        "                    ",
+        "                    ",
+        "                    ",
+        "                  W ",
+        "####################",
+    };
+
+    // 골이 벽 안에 갇혀 있다
+    private static final String[] WALLED = {
+        "               #####",
+        "               #   #",
+        "               #   #",
+        "               # W #",
+        "####################",
+    };
+
+    @Test
+    public void reachable() {
+        LevelChecker.Result r = new LevelChecker().check(LevelData.fromRows(OPEN));
+        assertTrue(r.toString(), r.reachable);
+        assertTrue(r.toString(), r.verified);
+        assertFalse(r.truncated);
+        assertEquals(0, r.minDashes);
+    }
+
+    @Test
+    public void unreachableIsNotTruncated() {
+        LevelChecker checker = new LevelChecker();
+        LevelChecker.Result r = checker.check(LevelData.fromRows(WALLED));
+        assertFalse(r.toString(), r.reachable);
+        assertFalse(r.toString(), r.truncated);
+    }
+
+    @Test
+    public void stateLimitIsReportedAsTruncated() {
+        LevelChecker checker = new LevelChecker();
+        checker.maxStates = 50;
+        LevelChecker.Result r = checker.check(LevelData.fromRows(WALLED));
+        assertFalse(r.reachable);
+        assertTrue(r.toString(), r.truncated);
+    }
+}
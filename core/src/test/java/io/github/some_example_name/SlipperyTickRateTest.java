@@ -0,0 +1,42 @@
+package io.github.some_example_name;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** 미끄럼 감쇠가 틱 레이트와 무관하게 같은 시간에 같은 만큼 줄어드는지. */
+public class SlipperyTickRateTest {
+
+    @Test
+    public void decayMatchesAcrossTickRates() {
+        float v60 = slideSpeed(60);
+        float v20 = slideSpeed(20);
+        assertTrue("did not slide", v60 > 1f && v60 < Constants.MOVE_SPEED);
+        assertEquals(v60, v20, 0.5f);
+    }
+
+    // 미끄러운 바닥에서 오른쪽으로 달리다 손을 떼고 0.5초 뒤 속도
+    private static float slideSpeed(int hz) {
+        float dt = 1f / hz;
+        String[] rows = {
+            "                                                            ",
+            "                                                            ",
+            "SSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSSS",
+        };
+        GameWorld world = new GameWorld();
+        world.loadLevel(rows);
+        PlayerInput in = new PlayerInput();
+        for (int i = 0; i < hz && !world.player.grounded; i++) world.step(dt, in);
+        assertTrue(world.player.grounded);
+
+        in.right = true;
+        world.step(dt, in);
+        world.step(dt, in);
+        assertTrue(world.onSlippery);
+
+        in.right = false;
+        for (int i = 0; i < hz / 2; i++) world.step(dt, in);
+        return world.player.vel.x;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.some_example_name;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 예열 뒤 GameWorld.step이 한 바이트도 할당하지 않는지. 입력(이동/점프/대시), 블록 파괴, 죽음,
+ * 재시작, 레벨 다시 읽기까지 스크립트로 1~3스테이지를 돌려서 잰다.
+ */
+public class StepAllocationTest {
+    private static final float DT = 1f / Constants.SIM_HZ;
+    private static final int TICKS = 6000;
+
+    private final PlayerInput in = new PlayerInput();
+    private int broken, deaths, restarts;
+
+    private final GameWorld.Listener counter = new GameWorld.Listener() {
+        @Override public void levelLoaded(GameWorld world) {}
+        @Override public void blockBroken(GameWorld world, Block b) { broken++; }
+        @Override public void columnsChanged(GameWorld world, int x0, int x1) {}
+    };
+
+    @Before
+    public void supported() {
+        Assume.assumeTrue(AllocationCounter.isSupported());
+    }
+
+    @Test
+    public void physicsOnlyStepIsAllocationFree() {
+        for (int lv = 1; lv <= 3; lv++) {
+            GameWorld world = new GameWorld();
+            world.loadLevel(lv);
+            assertEquals("level " + lv + " allocated in step(dt)", 0L, measureStep(world, 2000, 10000));
+        }
+    }
+
+    // warmup 틱 이후 ticks 동안 world.step(dt)가 할당한 바이트. 측정 호출 자체의 비용은 빼고 3회 중 최솟값
+    private static long measureStep(GameWorld world, int warmupTicks, int ticks) {
+        for (int i = 0; i < warmupTicks; i++) world.step(DT);
+
+        long overhead = AllocationCounter.threadAllocatedBytes();
+        overhead = AllocationCounter.threadAllocatedBytes() - overhead;
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long before = AllocationCounter.threadAllocatedBytes();
+            for (int i = 0; i < ticks; i++) world.step(DT);
+            best = Math.min(best, AllocationCounter.threadAllocatedBytes() - before - overhead);
+        }
+        return Math.max(0L, best);
+    }
+
+    @Test
+    public void scriptedPlayIsAllocationFree() {
+        for (int lv = 1; lv <= 3; lv++) {
+            GameWorld world = new GameWorld();
+            world.addListener(counter);
+            world.loadLevel(lv);
+
+            // 예열(JIT, 버퍼 크기 확정). 같은 스크립트를 두 번
+            play(world, lv);
+            play(world, lv);
+
+            // JIT 재컴파일 같은 일회성 잡음을 피하려고 3회 중 최솟값
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < 3; round++) {
+                world.loadLevel(lv);
+                long before = AllocationCounter.threadAllocatedBytes();
+                play(world, lv);
+                best = Math.min(best, AllocationCounter.threadAllocatedBytes() - before);
+            }
+            assertEquals("level " + lv + " allocated during scripted play", 0L, best);
+        }
+
+        // 스크립트가 실제로 그 경로들을 지났는지
+        assertTrue("no block broken", broken > 0);
+        assertTrue("no death", deaths > 0);
+        assertTrue("no restart", restarts > 0);
+    }
+
+    // 오른쪽으로 달리며 주기적으로 점프/대시, 가끔 왼쪽. 죽으면 재시작, 클리어하면 같은 레벨을 다시 읽는다
+    private void play(GameWorld world, int lv) {
+        for (int t = 0; t < TICKS; t++) {
+            in.left = t % 300 >= 260;
+            in.right = !in.left;
+            in.jump = t % 23 == 0;
+            in.dash = t % 37 == 0;
+            if (world.state.point < Constants.DASH_COST) world.state.point = 3 * Constants.DASH_COST;
+
+            world.step(DT, in);
+
+            if (world.isDead()) {
+                deaths++;
+                restarts++;
+                world.restartLevel(true);
+            } else if (world.isCleared() || world.level() != lv) {
+                world.loadLevel(lv);
+            } else if (t % 1000 == 999) {
+                restarts++;
+                world.restartLevel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.some_example_name;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** 낮은 틱 레이트(10Hz)에서 대시가 한 틱에 트리거보다 멀리 가도 독/골을 건너뛰지 않는지. */
+public class TriggerSweepTest {
+    private static final float DT = 1f / 10;
+
+    @Test
+    public void dashThroughPoisonKills() {
+        GameWorld world = dashOver('R');
+        assertTrue("dash skipped the poison tile", world.isDead());
+    }
+
+    @Test
+    public void dashThroughGoalClears() {
+        GameWorld world = dashOver('W');
+        assertTrue("dash skipped the goal tile", world.isCleared());
+    }
+
+    // 바닥 위 한 칸짜리 트리거를 향해 대시. 한 틱 90px > 플레이어 폭 + 타일
+    private static GameWorld dashOver(char trigger) {
+        String[] rows = {
+            "                              ",
+            "                              ",
+            "                              ",
+            "      " + trigger + "                       ",
+            "##############################",
+        };
+        GameWorld world = new GameWorld();
+        world.loadLevel(rows);
+        PlayerInput in = new PlayerInput();
+        for (int i = 0; i < 20 && !world.player.grounded; i++) world.step(DT, in);
+        assertTrue(world.player.grounded);
+        assertFalse(world.isDead());
+
+        world.state.point = Constants.DASH_COST;
+        in.right = true;
+        in.dash = true;
+        for (int i = 0; i < 4 && !world.isDead() && !world.isCleared(); i++) {
+            world.step(DT, in);
+            in.dash = false;
+        }
+        return world;
+    }
+}
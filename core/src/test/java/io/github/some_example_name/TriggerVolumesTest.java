@@ -0,0 +1,30 @@
+package io.github.some_example_name;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** 지운 id에 대한 접근자. */
+public class TriggerVolumesTest {
+    @Test
+    public void removedIdIsNotAlive() {
+        TriggerVolumes t = new TriggerVolumes();
+        t.reset(100);
+        int goal = t.add(TriggerVolumes.Kind.GOAL, 32, 32, 32, 32);
+        t.update(new Rectangle(40, 40, 8, 8));
+        assertTrue(t.isInside(goal));
+        assertEquals(TriggerVolumes.Kind.GOAL, t.kind(goal));
+
+        t.remove(goal);
+        assertFalse(t.isAlive(goal));
+        assertNull(t.kind(goal));
+        assertFalse(t.isInside(goal));
+        assertNull(t.kind(-1));
+        assertNull(t.kind(1000));
+        assertFalse(t.isInside(-1));
+    }
+}
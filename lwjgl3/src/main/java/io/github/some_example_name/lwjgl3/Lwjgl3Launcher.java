@@ -2,6 +2,8 @@ package io.github.some_example_name.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import io.github.some_example_name.Constants;
+import io.github.some_example_name.GameEvents;
 import io.github.some_example_name.Main;
 
 
@@ -9,11 +11,29 @@ import io.github.some_example_name.Main;
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+        //// -Dgame.jfr=<file.jfr> records a Java Flight Recording (JVM + game events) and writes it on exit.
+        String jfr = System.getProperty("game.jfr");
+        if (jfr != null) GameEvents.startRecording(jfr);
         createApplication();
+        if (jfr != null) GameEvents.stopRecording();
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+        //// -Dgame.tickRate=<hz> sets the fixed simulation rate; -Dgame.variableStep=true steps physics
+        //// with the raw frame delta instead (the old behaviour).
+        boolean fixedStep = !Boolean.getBoolean("game.variableStep");
+        int tickRate = Integer.getInteger("game.tickRate", Constants.SIM_HZ);
+        Main main = new Main(fixedStep, tickRate);
+        //// -Dgame.record=<file> saves this session's inputs on exit (built-in stages only); -Dgame.replay=<file> plays one back.
+        main.setRecordFile(System.getProperty("game.record"));
+        main.setReplayFile(System.getProperty("game.replay"));
+        //// -Dgame.map=maps/level1.tmx starts on a Tiled map instead of the built-in stages.
+        main.setMapFile(System.getProperty("game.map"));
+        //// -Dgame.startupReport=<csv> appends startup timings; -Dgame.exitAfterStartup=true quits after the first frame.
+        main.setStartupReport(System.getProperty("game.startupReport"), Boolean.getBoolean("game.exitAfterStartup"));
+        //// -Dgame.allocCheck=true fails if a steady-state frame allocates, then quits.
+        main.setAllocationCheck(Boolean.getBoolean("game.allocCheck"));
+        return new Lwjgl3Application(main, getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {